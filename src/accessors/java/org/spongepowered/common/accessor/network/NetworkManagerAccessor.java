@@ -30,6 +30,7 @@
 import org.spongepowered.asm.mixin.gen.Accessor;
 
 import java.net.SocketAddress;
+import java.util.Queue;
 
 @Mixin(NetworkManager.class)
 public interface NetworkManagerAccessor {
@@ -38,4 +39,6 @@ public interface NetworkManagerAccessor {
 
     @Accessor("address") void accessor$address(final SocketAddress address);
 
+    @Accessor("queue") Queue<?> accessor$queue();
+
 }
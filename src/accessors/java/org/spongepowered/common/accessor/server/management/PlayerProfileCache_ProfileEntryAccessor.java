@@ -39,4 +39,6 @@ public interface PlayerProfileCache_ProfileEntryAccessor {
 
     @Invoker("setLastAccess") void invoker$setLastAccess(final long lastAccessMs);
 
+    @Invoker("getLastAccess") long invoker$getLastAccess();
+
 }
@@ -24,13 +24,17 @@
  */
 package org.spongepowered.common.accessor.server.management;
 
+import com.google.gson.JsonObject;
 import net.minecraft.server.management.UserListEntry;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
 
 @Mixin(UserListEntry.class)
 public interface UserListEntryAccessor<T> {
 
     @Accessor("user") T accessor$user();
 
+    @Invoker("serialize") void invoker$serialize(JsonObject data);
+
 }
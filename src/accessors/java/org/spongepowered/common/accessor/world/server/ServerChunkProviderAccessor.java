@@ -24,14 +24,24 @@
  */
 package org.spongepowered.common.accessor.world.server;
 
+import com.mojang.datafixers.util.Either;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.gen.ChunkGenerator;
+import net.minecraft.world.server.ChunkHolder;
 import net.minecraft.world.server.ServerChunkProvider;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.concurrent.CompletableFuture;
 
 @Mixin(ServerChunkProvider.class)
 public interface ServerChunkProviderAccessor {
 
     @Accessor("generator") void accessor$generator(final ChunkGenerator generator);
 
+    @Invoker("getChunkFutureMainThread") CompletableFuture<Either<IChunk, ChunkHolder.IChunkLoadingError>> invoker$getChunkFutureMainThread(final int x,
+            final int z, final ChunkStatus status, final boolean load);
+
 }
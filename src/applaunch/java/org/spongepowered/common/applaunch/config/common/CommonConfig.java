@@ -73,9 +73,17 @@ public final class CommonConfig implements Config {
     @Setting
     public final OptimizationCategory optimizations = new OptimizationCategory();
 
+    @Setting
+    @Comment("Configuration options related to player connections.")
+    public final NetworkCategory network = new NetworkCategory();
+
     @Setting("phase-tracker")
     public final PhaseTrackerCategory phaseTracker = new PhaseTrackerCategory();
 
+    @Setting("profile-lookup")
+    @Comment("Configuration options related to looking up game profiles from Mojang.")
+    public final ProfileLookupCategory profileLookup = new ProfileLookupCategory();
+
     @Setting("teleport-helper")
     @Comment("Blocks to blacklist for safe teleportation.")
     public final TeleportHelperCategory teleportHelper = new TeleportHelperCategory();
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class NetworkCategory {
+
+    @Setting("flush-consolidation")
+    @Comment("If 'true', packets sent to a player are written without flushing the connection and \n"
+             + "flushed together at the end of the server tick, instead of flushing every packet. \n"
+             + "This saves many small writes to the socket during busy ticks, but changes when \n"
+             + "packets reach the network, so it is opt-in. (Default: false)")
+    public boolean flushConsolidation = false;
+
+    @Setting("max-flush-delay")
+    @Comment("The maximum time in milliseconds a packet may wait for the end of the tick before \n"
+             + "it is flushed anyway, when flush consolidation is enabled. (Default: 20)")
+    public int maxFlushDelay = 20;
+
+    @Setting("max-logins-per-tick")
+    @Comment("The maximum number of players that finish logging in per tick. Further logins wait \n"
+             + "for the next tick, which spreads the cost of a burst of logins, such as after a \n"
+             + "proxy restart, over several ticks. Set to 0 to disable the limit. (Default: 20)")
+    public int maxLoginsPerTick = 20;
+
+    @Setting("compression-level")
+    @Comment("The zlib level packets are compressed with, from 1 (fastest) to 9 (smallest). \n"
+             + "Packets below the 'network-compression-threshold' of server.properties are never \n"
+             + "compressed. (Default: 6)")
+    public int compressionLevel = 6;
+
+    @Setting("adaptive-compression")
+    @Comment("If 'true', the compression level and threshold of each connection are adjusted \n"
+             + "based on the time spent compressing its packets and the latency of the player. \n"
+             + "Connections over their time budget compress less, players with a high latency \n"
+             + "get smaller packets. This overrides the configured level and threshold per \n"
+             + "connection, so it is opt-in. (Default: false)")
+    public boolean adaptiveCompression = false;
+
+    @Setting("compression-time-budget")
+    @Comment("The time in microseconds per second each connection may spend compressing packets \n"
+             + "before adaptive compression lowers its level and raises its threshold. (Default: 2000)")
+    public int compressionTimeBudget = 2000;
+
+    @Setting("max-compression-threshold")
+    @Comment("The highest threshold adaptive compression may raise a connection to. (Default: 2048)")
+    public int maxCompressionThreshold = 2048;
+
+    @Setting("shared-chunk-compression")
+    @Comment("If 'true', a chunk packet sent to several players is compressed once and the \n"
+             + "compressed data is reused for every player. (Default: true)")
+    public boolean sharedChunkCompression = true;
+}
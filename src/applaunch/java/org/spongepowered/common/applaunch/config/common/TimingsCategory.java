@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.applaunch.config.common;
 
+import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -50,4 +51,14 @@ public final class TimingsCategory {
 
     @Setting("history-length")
     public int historyLength = 3600;
+
+    @Setting("local-export")
+    @Comment("If 'true', timings reports are written to a compressed file in\n"
+             + "'local-export-directory' instead of being uploaded, along with\n"
+             + "a static HTML viewer. Use this on servers without outbound network access.")
+    public boolean localExport = false;
+
+    @Setting("local-export-directory")
+    @Comment("The directory, relative to the server root, that local timings reports are written to.")
+    public String localExportDirectory = "timings";
 }
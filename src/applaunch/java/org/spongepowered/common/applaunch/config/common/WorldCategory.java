@@ -40,17 +40,16 @@ public final class WorldCategory {
                                                           + "Note: 20 ticks is equivalent to 1 second. Set to 0 to disable.")
     public int playerAutoSaveInterval = 6000;
 
+    @Setting(value = "parallel-world-loading")
+    @Comment("If 'true', the start regions of all worlds loaded at startup are generated at the same time \n"
+                                                   + "instead of one world after another. Worlds that don't keep their spawn loaded \n"
+                                                   + "will not have their start region prepared at startup in this mode.")
+    public boolean parallelWorldLoading = false;
+
     @Setting(value = "leaf-decay")
     @Comment("If 'true', natural leaf decay is allowed.")
     public boolean leafDecay = true;
 
-    @Setting(value = "game-profile-lookup-task-interval")
-    @Comment("The interval, in seconds, used by the GameProfileQueryTask to process queued GameProfile requests. (Default: 4) \n"
-                                                                 + "Note: This setting should be raised if you experience the following error: \n"
-                                                                 + "\"The client has sent too many requests within a certain amount of time\". \n"
-                                                                 + "Finally, if set to 0 or less, the default interval will be used.")
-    public int gameProfileQueryTaskInterval = 4;
-
     @Setting(value = "invalid-lookup-uuids")
     @Comment("The list of uuid's that should never perform a lookup against Mojang's session server. \n"
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
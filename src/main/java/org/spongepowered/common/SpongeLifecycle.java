@@ -198,6 +198,7 @@ public void callStartedEngineEvent(final Engine engine) {
 
     public void callLoadedGameEvent() {
         this.game.getEventManager().post(SpongeEventFactory.createLoadedGameEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), this.game));
+        ((SpongeEventManager) this.game.getEventManager()).saveListenerIndex();
     }
 
     public void callStoppingEngineEvent(final Engine engine) {
@@ -39,21 +39,36 @@
 import org.spongepowered.common.bridge.adventure.ComponentBridge;
 import org.spongepowered.common.bridge.util.text.TextComponentBridge;
 import org.spongepowered.common.util.LocaleCache;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 public class AdventureTextComponent implements ITextComponent, TextComponentBridge {
+    // A broadcast is usually rendered for a handful of locales, any further locales are rendered without caching
+    private static final int MAX_CACHED_LOCALES = 16;
+    private static final Rendered[] NOT_RENDERED = new Rendered[0];
+    private static final AtomicReferenceFieldUpdater<AdventureTextComponent, Rendered[]> RENDERED =
+        AtomicReferenceFieldUpdater.newUpdater(AdventureTextComponent.class, Rendered[].class, "renderedByLocale");
+    private static final LongAdder RENDER_HITS = new LongAdder();
+    private static final LongAdder RENDER_MISSES = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("adventure.render.hits", AdventureTextComponent.RENDER_HITS::sum);
+        RuntimeMetrics.register("adventure.render.misses", AdventureTextComponent.RENDER_MISSES::sum);
+    }
+
     private @MonotonicNonNull ITextComponent converted;
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    @OnlyIn(Dist.CLIENT)
-    private @Nullable Locale lastLocale;
-    @OnlyIn(Dist.CLIENT)
-    private @Nullable AdventureTextComponent lastRendered;
+    private volatile Rendered[] renderedByLocale = AdventureTextComponent.NOT_RENDERED;
+    private volatile @Nullable String json;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -68,12 +83,51 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    public AdventureTextComponent rendered(final Locale locale) {
+        if (this.renderer == null) {
+            return this;
+        }
+        Rendered[] cached = this.renderedByLocale;
+        for (final Rendered entry : cached) {
+            if (entry.locale.equals(locale)) {
+                AdventureTextComponent.RENDER_HITS.increment();
+                return entry.component;
+            }
+        }
+        AdventureTextComponent.RENDER_MISSES.increment();
+        final AdventureTextComponent component = new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        // Publish the result without locking, if another thread rendered the same locale in the meantime
+        // the result of whichever thread got there first is kept
+        while (cached.length < AdventureTextComponent.MAX_CACHED_LOCALES) {
+            final Rendered[] updated = Arrays.copyOf(cached, cached.length + 1);
+            updated[cached.length] = new Rendered(locale, component);
+            if (AdventureTextComponent.RENDERED.compareAndSet(this, cached, updated)) {
+                break;
+            }
+            cached = this.renderedByLocale;
+            for (final Rendered entry : cached) {
+                if (entry.locale.equals(locale)) {
+                    return entry.component;
+                }
+            }
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        return component;
+    }
+
+    /**
+     * Gets the json representation of the wrapped component, serializing it
+     * only once. Rendered components are cached per locale, so every
+     * recipient sharing a locale shares the serialized form as well.
+     *
+     * @param serializer The serializer to use if not serialized yet
+     * @return The json
+     */
+    public String json(final Function<Component, String> serializer) {
+        String json = this.json;
+        if (json == null) {
+            json = this.json = serializer.apply(this.wrapped);
+        }
+        return json;
     }
 
     ITextComponent deepConverted() {
@@ -165,4 +219,15 @@ public <T> Optional<T> visit(final ITextAcceptor<T> visitor) {
     public @Nullable Component bridge$adventureComponentIfPresent() {
         return this.bridge$asAdventureComponent();
     }
+
+    private static final class Rendered {
+
+        final Locale locale;
+        final AdventureTextComponent component;
+
+        Rendered(final Locale locale, final AdventureTextComponent component) {
+            this.locale = locale;
+            this.component = component;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.play.server.SChatPacket;
+import net.minecraft.network.play.server.STitlePacket;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.common.network.PacketBroadcaster;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * An audience of players that sends messages through the
+ * {@link PacketBroadcaster}, so a message is converted and encoded once per
+ * locale rather than once per player.
+ */
+final class BroadcastAudience implements ForwardingAudience {
+
+    private final Supplier<Collection<ServerPlayerEntity>> players;
+
+    BroadcastAudience(final Supplier<Collection<ServerPlayerEntity>> players) {
+        this.players = players;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public @NonNull Iterable<? extends Audience> audiences() {
+        return (Collection) this.players.get();
+    }
+
+    @Override
+    public void sendMessage(final @NonNull Identity source, final @NonNull Component message, final @NonNull MessageType type) {
+        PacketBroadcaster.broadcast(this.players.get(), new SChatPacket(SpongeAdventure.asVanilla(message), SpongeAdventure.asVanilla(type), source.uuid()));
+    }
+
+    @Override
+    public void sendActionBar(final @NonNull Component message) {
+        PacketBroadcaster.broadcast(this.players.get(), new STitlePacket(STitlePacket.Type.ACTIONBAR, SpongeAdventure.asVanilla(message)));
+    }
+}
@@ -25,9 +25,11 @@
 package org.spongepowered.common.bridge.network;
 
 import com.mojang.authlib.properties.Property;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.net.SocketAddress;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface NetworkManagerBridge_Bungee {
 
@@ -35,7 +37,7 @@ public interface NetworkManagerBridge_Bungee {
 
     void bungeeBridge$setSpoofedUUID(UUID uuid);
 
-    Property[] bungeeBridge$getSpoofedProfile();
+    @Nullable CompletableFuture<Property[]> bungeeBridge$getSpoofedProfile();
 
-    void bungeeBridge$setSpoofedProfile(Property[] profile);
+    void bungeeBridge$setSpoofedProfile(@Nullable CompletableFuture<Property[]> profile);
 }
@@ -29,4 +29,15 @@
 public interface ServerLoginNetHandlerBridge {
 
     boolean bridge$fireAuthEvent();
+
+    /**
+     * Gets whether the login is ready to be accepted, checked before it is
+     * admitted so a login that is still waiting doesn't take up one of the
+     * logins of a tick.
+     *
+     * @return Whether the login is ready to be accepted
+     */
+    default boolean bridge$isReadyToAccept() {
+        return true;
+    }
 }
@@ -24,14 +24,17 @@
  */
 package org.spongepowered.common.bridge.network.play.server;
 
-import com.mojang.brigadier.tree.RootCommandNode;
-import net.minecraft.command.CommandSource;
-import org.spongepowered.common.command.registrar.tree.builder.RootCommandTreeNode;
+import io.netty.buffer.ByteBuf;
 
 public interface SCommandListPacketBridge {
 
-    void bridge$addRootCommandTreeBuilder(RootCommandTreeNode rootCommandTreeBuilder);
-
-    RootCommandNode<CommandSource> bridge$getRootCommandNode();
+    /**
+     * Sets the pre-encoded contents of this packet. Once set, the packet is
+     * written by copying these bytes rather than walking the command tree,
+     * which allows a single packet to be shared by many connections.
+     *
+     * @param encoded The encoded packet contents
+     */
+    void bridge$setEncoded(ByteBuf encoded);
 
 }
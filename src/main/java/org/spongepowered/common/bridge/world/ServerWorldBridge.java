@@ -33,6 +33,7 @@
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.api.world.weather.Weather;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.world.server.ChunkPrefetcher;
 import org.spongepowered.math.vector.Vector3d;
 
 public interface ServerWorldBridge {
@@ -71,5 +72,15 @@ public interface ServerWorldBridge {
 
     void bridge$setManualSave(boolean state);
 
+    /**
+     * Gets whether chunks are kept from being written to the region files,
+     * for example while the world directory is copied.
+     */
+    boolean bridge$isSavingPaused();
+
+    void bridge$setSavingPaused(boolean paused);
+
     RegistryHolder bridge$registries();
+
+    ChunkPrefetcher bridge$chunkPrefetcher();
 }
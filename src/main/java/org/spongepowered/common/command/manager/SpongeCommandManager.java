@@ -115,6 +115,7 @@ public final class SpongeCommandManager implements CommandManager {
     private final Multimap<SpongeCommandMapping, String> inverseCommandMappings = HashMultimap.create();
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
+    private final SpongeCommandTreeCache commandTreeCache = new SpongeCommandTreeCache();
 
     private boolean isResetting = false;
     private boolean hasStarted = false;
@@ -232,6 +233,7 @@ public CommandMapping registerAliasWithNamespacing(
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeCache.invalidate();
         return mapping;
     }
 
@@ -538,6 +540,14 @@ public void init() {
         this.hasStarted = true;
     }
 
+    public SpongeCommandTreeCache getCommandTreeCache() {
+        return this.commandTreeCache;
+    }
+
+    public Collection<RootCommandTreeNode> getNonBrigadierTrees() {
+        return Collections.unmodifiableCollection(this.mappingToSuggestionNodes.values());
+    }
+
     public Collection<CommandNode<ISuggestionProvider>> getNonBrigadierSuggestions(final CommandCause cause) {
         final List<CommandNode<ISuggestionProvider>> suggestions = new ArrayList<>();
 
@@ -569,6 +579,7 @@ public void reset() {
             this.commandMappings.clear();
             this.inverseCommandMappings.clear();
             this.pluginToCommandMap.clear();
+            this.commandTreeCache.invalidate();
             this.isResetting = false;
         }
     }
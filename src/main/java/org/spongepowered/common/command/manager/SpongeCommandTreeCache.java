@@ -0,0 +1,199 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import io.netty.buffer.Unpooled;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.ISuggestionProvider;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SCommandListPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.CommandCause;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.network.play.server.SCommandListPacketBridge;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
+import org.spongepowered.common.command.brigadier.tree.SpongeNode;
+import org.spongepowered.common.command.registrar.tree.builder.RootCommandTreeNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Caches the command tree packets sent to players, keyed by a fingerprint of
+ * which permission gated nodes are visible to them.
+ *
+ * <p>The fingerprint is made of the result of every requirement that could
+ * hide part of the tree, so two players with the same fingerprint are sent
+ * identical trees. Changes to a player's permissions therefore lead to a
+ * different fingerprint rather than requiring invalidation, while the cache
+ * itself is invalidated whenever the set of registered commands changes.</p>
+ */
+public final class SpongeCommandTreeCache {
+
+    private static final Predicate<?> DEFAULT_REQUIREMENT = LiteralArgumentBuilder.literal("default").getRequirement();
+
+    private final Cache<BitSet, SCommandListPacket> packets = Caffeine.newBuilder()
+            .maximumSize(256)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+    // Computed lazily after each invalidation
+    private @Nullable List<GatedNode> gatedNodes = null;
+    private @Nullable List<Predicate<CommandCause>> treeRequirements = null;
+
+    public void invalidate() {
+        this.packets.invalidateAll();
+        this.gatedNodes = null;
+        this.treeRequirements = null;
+    }
+
+    /**
+     * Computes the visibility fingerprint of the command tree for the given
+     * source.
+     *
+     * @param dispatcher The dispatcher the tree is generated from
+     * @param source The source of the player
+     * @param cause The cause of the player, used for non-Brigadier trees
+     * @param nonBrigadierTrees The non-Brigadier trees that are also sent
+     * @return The fingerprint
+     */
+    public BitSet fingerprint(
+            final CommandDispatcher<CommandSource> dispatcher,
+            final CommandSource source,
+            final CommandCause cause,
+            final Collection<RootCommandTreeNode> nonBrigadierTrees) {
+        if (this.gatedNodes == null || this.treeRequirements == null) {
+            this.gatedNodes = SpongeCommandTreeCache.collectGatedNodes(dispatcher.getRoot());
+            final List<Predicate<CommandCause>> requirements = new ArrayList<>();
+            for (final RootCommandTreeNode tree : nonBrigadierTrees) {
+                tree.collectRequirements(requirements);
+            }
+            this.treeRequirements = requirements;
+        }
+
+        final BitSet fingerprint = new BitSet(this.gatedNodes.size() + this.treeRequirements.size());
+        int bit = 0;
+        for (final GatedNode gated : this.gatedNodes) {
+            if (SpongeNodePermissionCache.canUse(gated.isRoot, dispatcher, gated.node, source)) {
+                fingerprint.set(bit);
+            }
+            bit++;
+        }
+        for (final Predicate<CommandCause> requirement : this.treeRequirements) {
+            if (requirement.test(cause)) {
+                fingerprint.set(bit);
+            }
+            bit++;
+        }
+        return fingerprint;
+    }
+
+    public @Nullable SCommandListPacket get(final BitSet fingerprint) {
+        return this.packets.getIfPresent(fingerprint);
+    }
+
+    /**
+     * Creates the packet for the given tree, encodes it once and caches it for
+     * the fingerprint.
+     *
+     * @param fingerprint The fingerprint the tree was built for
+     * @param root The tree
+     * @return The packet to send
+     */
+    public SCommandListPacket put(final BitSet fingerprint, final RootCommandNode<ISuggestionProvider> root) {
+        final SCommandListPacket packet = new SCommandListPacket(root);
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try {
+            packet.write(buffer);
+        } catch (final IOException e) {
+            // the packet will be encoded normally instead
+            SpongeCommon.getLogger().debug("Could not pre-encode command tree packet", e);
+            return packet;
+        }
+        ((SCommandListPacketBridge) packet).bridge$setEncoded(Unpooled.unreleasableBuffer(buffer.asReadOnly()));
+        this.packets.put(fingerprint, packet);
+        return packet;
+    }
+
+    private static List<GatedNode> collectGatedNodes(final RootCommandNode<CommandSource> root) {
+        final List<GatedNode> nodes = new ArrayList<>();
+        final Set<CommandNode<CommandSource>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final CommandNode<CommandSource> child : SpongeCommandTreeCache.getChildren(root)) {
+            // Root nodes are always tested, permissions are derived from them even without a requirement
+            nodes.add(new GatedNode(child, true));
+            visited.add(child);
+        }
+        for (final CommandNode<CommandSource> child : SpongeCommandTreeCache.getChildren(root)) {
+            SpongeCommandTreeCache.collectGatedChildren(child, nodes, visited);
+        }
+        return nodes;
+    }
+
+    private static void collectGatedChildren(final CommandNode<CommandSource> parent, final List<GatedNode> nodes,
+            final Set<CommandNode<CommandSource>> visited) {
+        for (final CommandNode<CommandSource> child : SpongeCommandTreeCache.getChildren(parent)) {
+            if (!visited.add(child)) {
+                continue;
+            }
+            if (child.getRequirement() != SpongeCommandTreeCache.DEFAULT_REQUIREMENT) {
+                nodes.add(new GatedNode(child, false));
+            }
+            SpongeCommandTreeCache.collectGatedChildren(child, nodes, visited);
+        }
+    }
+
+    private static Collection<CommandNode<CommandSource>> getChildren(final CommandNode<CommandSource> node) {
+        if (node instanceof SpongeNode) {
+            return ((SpongeNode) node).getChildrenForSuggestions();
+        }
+        return node.getChildren();
+    }
+
+    private static final class GatedNode {
+
+        final CommandNode<CommandSource> node;
+        final boolean isRoot;
+
+        GatedNode(final CommandNode<CommandSource> node, final boolean isRoot) {
+            this.node = node;
+            this.isRoot = isRoot;
+        }
+    }
+
+}
@@ -36,9 +36,13 @@
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -47,12 +51,13 @@
         implements CommandTreeNode<@NonNull T> {
 
     public final static Command<ISuggestionProvider> EXECUTABLE = isp -> 1;
+    private final static Predicate<CommandCause> NO_REQUIREMENT = c -> true;
 
     @Nullable private CommandTreeNode<?> redirect = null;
     @Nullable private Map<String, AbstractCommandTreeNode<?, ?>> children = null;
     private boolean executable = false;
     private boolean customSuggestions = false;
-    private Predicate<CommandCause> requirement = c -> true;
+    private Predicate<CommandCause> requirement = AbstractCommandTreeNode.NO_REQUIREMENT;
 
     public ImmutableMap<String, AbstractCommandTreeNode<?, ?>> getChildren() {
         if (this.children == null) {
@@ -101,7 +106,7 @@ public T customSuggestions() {
 
     @Override
     public @NonNull T requires(final Predicate<CommandCause> requirement) {
-        this.requirement = requirement == null ? c -> true : requirement;
+        this.requirement = requirement == null ? AbstractCommandTreeNode.NO_REQUIREMENT : requirement;
         return this.getThis();
     }
 
@@ -156,4 +161,26 @@ protected final void addChildNodesToTree(
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
+
+    /**
+     * Collects every requirement in this tree that may hide a node, in a
+     * stable order. Nodes without a requirement are skipped.
+     *
+     * @param requirements The list to add the requirements to
+     */
+    public final void collectRequirements(final List<Predicate<CommandCause>> requirements) {
+        this.collectRequirements(requirements, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private void collectRequirements(final List<Predicate<CommandCause>> requirements, final Set<AbstractCommandTreeNode<?, ?>> visited) {
+        if (!visited.add(this)) {
+            return;
+        }
+        if (this.requirement != AbstractCommandTreeNode.NO_REQUIREMENT) {
+            requirements.add(this.requirement);
+        }
+        if (this.children != null) {
+            this.children.keySet().stream().sorted().forEach(key -> this.children.get(key).collectRequirements(requirements, visited));
+        }
+    }
 }
@@ -25,6 +25,8 @@
 package org.spongepowered.common.command.sponge;
 
 import co.aikar.timings.Timings;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -32,6 +34,8 @@
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.util.math.MathHelper;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -41,15 +45,20 @@
 import org.spongepowered.api.command.parameter.CommandContext;
 import org.spongepowered.api.command.parameter.CommonParameters;
 import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.network.NetworkManagerAccessor;
+import org.spongepowered.common.bridge.network.NettyCompressionEncoderBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.network.TickFlushHandler;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
 import org.spongepowered.plugin.metadata.PluginMetadata;
@@ -65,7 +74,9 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.management.MBeanServer;
@@ -101,6 +112,20 @@ public Command.Parameterized createSpongeCommand() {
                 .setExecutor(this::heapSubcommandExecutor)
                 .build();
 
+        // /sponge metrics
+        final Command.Parameterized metricsCommand = Command.builder()
+                .setPermission("sponge.command.metrics")
+                .setShortDescription(Component.text("Lists runtime counters maintained by Sponge"))
+                .setExecutor(this::metricsExecutor)
+                .build();
+
+        // /sponge network
+        final Command.Parameterized networkCommand = Command.builder()
+                .setPermission("sponge.command.network")
+                .setShortDescription(Component.text("Lists the flush and compression statistics of player connections"))
+                .setExecutor(this::networkExecutor)
+                .build();
+
         // /sponge plugins
         final Command.Parameterized pluginsReloadCommand = Command.builder()
                 .setPermission("sponge.command.plugins.refresh")
@@ -162,6 +187,8 @@ public Command.Parameterized createSpongeCommand() {
                 .child(auditCommand, "audit")
                 .child(chunksCommand, "chunks")
                 .child(heapCommand, "heap")
+                .child(metricsCommand, "metrics")
+                .child(networkCommand, "network")
                 .child(pluginsCommand, "plugins")
                 .child(timingsCommand, "timings")
                 .child(tpsCommand, "tps")
@@ -437,6 +464,69 @@ private TextComponent.Builder appendTickTime(final long[] tickTimes, final TextC
         return builder;
     }
 
+    private CommandResult metricsExecutor(final CommandContext context) {
+        final List<Component> metrics = new ArrayList<>();
+        for (final Map.Entry<String, Long> entry : RuntimeMetrics.snapshot().entrySet()) {
+            metrics.add(Component.text().content(entry.getKey() + ": ")
+                    .append(Component.text(entry.getValue(), NamedTextColor.LIGHT_PURPLE))
+                    .build());
+        }
+
+        SpongeCommon.getGame().getServiceProvider()
+                .paginationService()
+                .builder()
+                .contents(metrics)
+                .title(Component.text("Sponge Metrics", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.getCause().getAudience());
+
+        return CommandResult.success();
+    }
+
+    private CommandResult networkExecutor(final CommandContext context) {
+        final List<Component> connections = new ArrayList<>();
+        for (final ServerPlayer player : SpongeCommon.getGame().getServer().getOnlinePlayers()) {
+            final NetworkManager connection = ((ServerPlayerEntity) player).connection.connection;
+            final @Nullable TickFlushHandler handler = TickFlushHandler.of(connection);
+            final TextComponent.Builder line = Component.text().content(player.getName() + ": ");
+            if (handler == null) {
+                line.append(Component.text("flushes are not consolidated", NamedTextColor.GRAY));
+            } else {
+                final long flushes = handler.getFlushes();
+                line.append(Component.text(flushes, NamedTextColor.LIGHT_PURPLE))
+                        .append(Component.text(" flushes, "))
+                        .append(Component.text(handler.getFlushesRequested() - flushes, NamedTextColor.LIGHT_PURPLE))
+                        .append(Component.text(" saved, "))
+                        .append(Component.text(flushes == 0 ? 0 : handler.getBytesFlushed() / flushes, NamedTextColor.LIGHT_PURPLE))
+                        .append(Component.text(" bytes per flush"));
+            }
+            final @Nullable Channel channel = ((NetworkManagerAccessor) connection).accessor$channel();
+            final @Nullable ChannelHandler compression = channel == null ? null : channel.pipeline().get("compress");
+            if (compression instanceof NettyCompressionEncoderBridge) {
+                final NettyCompressionEncoderBridge encoder = (NettyCompressionEncoderBridge) compression;
+                final long uncompressed = encoder.bridge$getUncompressedBytes();
+                final long ratio = uncompressed == 0 ? 100 : encoder.bridge$getCompressedBytes() * 100 / uncompressed;
+                line.append(Component.text(", compressed to "))
+                        .append(Component.text(ratio + "%", NamedTextColor.LIGHT_PURPLE))
+                        .append(Component.text(" in "))
+                        .append(Component.text(TimeUnit.NANOSECONDS.toMillis(encoder.bridge$getCompressionNanos()) + "ms", NamedTextColor.LIGHT_PURPLE))
+                        .append(Component.text(" (level " + encoder.bridge$getCompressionLevel()
+                                + ", threshold " + encoder.bridge$getEffectiveThreshold() + ")"));
+            }
+            connections.add(line.build());
+        }
+
+        SpongeCommon.getGame().getServiceProvider()
+                .paginationService()
+                .builder()
+                .contents(connections)
+                .title(Component.text("Player Connections", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.getCause().getAudience());
+
+        return CommandResult.success();
+    }
+
     @NonNull
     private CommandResult versionExecutor(final CommandContext context) {
         if (this.versionText == null) {
@@ -36,6 +36,7 @@
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 import org.spongepowered.common.config.tracker.TrackerConfig;
 
 import java.io.IOException;
@@ -83,6 +84,10 @@ public static InheritableConfigHandle<WorldConfig> getForWorld(final net.minecra
         return ((ServerWorldInfoBridge) mcWorld.getLevelData()).bridge$configAdapter();
     }
 
+    public static WorldConfigSnapshot getSnapshot(final net.minecraft.world.World mcWorld) {
+        return ((ServerWorldInfoBridge) mcWorld.getLevelData()).bridge$configAdapter().snapshot();
+    }
+
     public static boolean doesWorldConfigExist(final ResourceKey world) {
         final Path configPath = SpongeConfigs.getDirectory().resolve(Paths.get("worlds", world.getNamespace(), world.getValue() + ".conf"));
         return Files.exists(configPath);
@@ -46,9 +46,15 @@
      */
     private CommentedConfigurationNode mergedNode;
 
+    /**
+     * The effective values read on hot paths, replaced as a whole on every load.
+     */
+    private volatile WorldConfigSnapshot snapshot;
+
     public InheritableConfigHandle(final T instance, final @Nullable InheritableConfigHandle<?> parent) {
         super(instance);
         this.parent = parent;
+        this.snapshot = new WorldConfigSnapshot(instance);
     }
 
     public InheritableConfigHandle(final T instance,
@@ -56,6 +62,16 @@ public InheritableConfigHandle(final T instance,
         final @Nullable InheritableConfigHandle<?> parent) {
         super(instance, loader);
         this.parent = parent;
+        this.snapshot = new WorldConfigSnapshot(instance);
+    }
+
+    /**
+     * Gets the current snapshot of the effective values of this configuration.
+     *
+     * @return The snapshot
+     */
+    public WorldConfigSnapshot snapshot() {
+        return this.snapshot;
     }
 
     /**
@@ -79,6 +95,7 @@ public <V> V getOrCreateValue(final Function<T, V> getter, final Consumer<BaseCo
         return ret;
     }
 
+    @Override
     public void load() throws ConfigurateException {
         if (this.isAttached()) {
             // store "what's in the file" separately in memory
@@ -99,6 +116,7 @@ public void load() throws ConfigurateException {
 
         // populate the config object
         this.mapper.load(this.instance, this.mergedNode);
+        this.snapshot = new WorldConfigSnapshot(this.instance);
         this.doSave();
     }
 
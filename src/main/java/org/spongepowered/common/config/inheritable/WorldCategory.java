@@ -47,6 +47,13 @@ public final class WorldCategory {
         + "Note: 20 ticks is equivalent to 1 second.")
     public int autoSaveInterval = 6000;
 
+    @Setting("idle-unload-delay")
+    @Comment("The number of seconds a world may stay without players and force loaded chunks \n"
+        + "before it is unloaded automatically. Unloaded worlds are loaded again when \n"
+        + "requested through the world manager. Set to 0 to disable. (Default: 0) \n"
+        + "Note: The default world is never unloaded.")
+    public int idleUnloadDelay = 0;
+
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import net.minecraft.entity.EntityClassification;
+
+/**
+ * An immutable copy of the effective values of a {@link BaseConfig} that are
+ * read on hot paths, such as every tick or every packet.
+ *
+ * <p>Inherited values are already resolved when the snapshot is taken, and a
+ * new snapshot is published by the owning {@link InheritableConfigHandle}
+ * whenever it is loaded again.</p>
+ */
+public final class WorldConfigSnapshot {
+
+    public final boolean movedWrongly;
+    public final boolean movedTooQuickly;
+    public final boolean vehicleMovedTooQuickly;
+
+    public final int itemDespawnRate;
+    public final double itemMergeRadius;
+    public final int paintingRespawnDelay;
+    public final int humanTabListRemoveDelay;
+
+    public final int autoSaveInterval;
+    public final boolean logAutoSave;
+    public final int idleUnloadDelay;
+
+    private final int ambientSpawnLimit;
+    private final int creatureSpawnLimit;
+    private final int aquaticCreatureSpawnLimit;
+    private final int aquaticAmbientSpawnLimit;
+    private final int monsterSpawnLimit;
+
+    private final int ambientTickRate;
+    private final int creatureTickRate;
+    private final int aquaticCreatureTickRate;
+    private final int aquaticAmbientTickRate;
+    private final int monsterTickRate;
+
+    WorldConfigSnapshot(final BaseConfig config) {
+        this.movedWrongly = config.movementChecks.movedWrongly;
+        this.movedTooQuickly = config.movementChecks.player.movedTooQuickly;
+        this.vehicleMovedTooQuickly = config.movementChecks.player.vehicleMovedTooQuickly;
+
+        this.itemDespawnRate = config.entity.item.despawnRate;
+        this.itemMergeRadius = Math.max(0, config.world.itemMergeRadius);
+        this.paintingRespawnDelay = config.entity.painting.respawnDelay;
+        this.humanTabListRemoveDelay = config.entity.human.tabListRemoveDelay;
+
+        this.autoSaveInterval = config.world.autoSaveInterval;
+        this.logAutoSave = config.world.logAutoSave;
+        this.idleUnloadDelay = config.world.idleUnloadDelay;
+
+        final SpawnerCategory.SpawnLimitsSubCategory spawnLimits = config.spawner.spawnLimits;
+        this.ambientSpawnLimit = spawnLimits.ambient;
+        this.creatureSpawnLimit = spawnLimits.creature;
+        this.aquaticCreatureSpawnLimit = spawnLimits.aquaticCreature;
+        this.aquaticAmbientSpawnLimit = spawnLimits.aquaticAmbient;
+        this.monsterSpawnLimit = spawnLimits.monster;
+
+        final SpawnerCategory.TickRatesSubCategory tickRates = config.spawner.tickRates;
+        this.ambientTickRate = tickRates.ambient;
+        this.creatureTickRate = tickRates.creature;
+        this.aquaticCreatureTickRate = tickRates.aquaticCreature;
+        this.aquaticAmbientTickRate = tickRates.aquaticAmbient;
+        this.monsterTickRate = tickRates.monster;
+    }
+
+    public int spawnLimit(final EntityClassification classification) {
+        switch (classification) {
+            case MONSTER:
+                return this.monsterSpawnLimit;
+            case CREATURE:
+                return this.creatureSpawnLimit;
+            case AMBIENT:
+                return this.ambientSpawnLimit;
+            case WATER_CREATURE:
+                return this.aquaticCreatureSpawnLimit;
+            case WATER_AMBIENT:
+                return this.aquaticAmbientSpawnLimit;
+            default:
+                throw new IllegalStateException("Unexpected value: " + classification);
+        }
+    }
+
+    public int spawnTickRate(final EntityClassification classification) {
+        switch (classification) {
+            case MONSTER:
+                return this.monsterTickRate;
+            case CREATURE:
+                return this.creatureTickRate;
+            case AMBIENT:
+                return this.ambientTickRate;
+            case WATER_CREATURE:
+                return this.aquaticCreatureTickRate;
+            case WATER_AMBIENT:
+                return this.aquaticAmbientTickRate;
+            default:
+                throw new IllegalStateException("Unexpected value: " + classification);
+        }
+    }
+}
@@ -82,7 +82,7 @@ public static void register(final DataProviderRegistrator registrator) {
                                 for (final ServerPlayerEntity player : players) {
                                     SpongeCommon.getServerScheduler().submit(Task.builder()
                                             .plugin(Launch.getInstance().getCommonPlugin())
-                                            .delay(new SpongeTicks(SpongeGameConfigs.getForWorld(h.level).get().entity.painting.respawnDelay))
+                                            .delay(new SpongeTicks(SpongeGameConfigs.getSnapshot(h.level).paintingRespawnDelay))
                                             .execute(() -> {
                                                 final SSpawnPaintingPacket packet = new SSpawnPaintingPacket(h);
                                                 player.connection.send(packet);
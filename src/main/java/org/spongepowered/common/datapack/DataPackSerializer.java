@@ -30,11 +30,17 @@
 import org.apache.commons.io.FileUtils;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DataPackSerializer<T extends DataPackSerializedObject> {
 
@@ -49,36 +55,41 @@ public DataPackSerializer(final String token, final String typeDirectoryName) {
     protected boolean serialize(final SpongeDataPackType<@NonNull ?, T> type, final Path datapacksDir, final List<T> objects) throws IOException {
         final Path datapackDir = datapacksDir.resolve(this.getPackName());
 
-        if (!type.persistent()) {
-            FileUtils.deleteDirectory(datapackDir.toFile());
-        }
-
         if (objects.isEmpty()) {
+            if (!type.persistent()) {
+                FileUtils.deleteDirectory(datapackDir.toFile());
+            }
             return false;
         }
 
-        // Write our objects
+        // Write our objects, files with unchanged contents are left untouched
+        final Set<Path> files = new HashSet<>();
         for (final T object : objects) {
             final Path namespacedDataDirectory = datapackDir.resolve("data").resolve(object.getKey().getNamespace());
             final Path objectFile = namespacedDataDirectory.resolve(this.typeDirectoryName).resolve(object.getKey().getValue() + ".json");
             Files.createDirectories(objectFile.getParent());
 
             DataPackSerializer.writeFile(objectFile, object.getObject());
+            files.add(objectFile);
 
-            this.serializeAdditional(namespacedDataDirectory, object);
+            this.serializeAdditional(namespacedDataDirectory, object, files);
         }
 
-        DataPackSerializer.writePackMetadata(this.name, datapackDir);
+        final Path packMeta = DataPackSerializer.writePackMetadata(this.name, datapackDir);
+        files.add(packMeta);
+
+        if (!type.persistent()) {
+            DataPackSerializer.deleteStaleFiles(datapackDir, files);
+        }
         return true;
     }
 
-    protected void serializeAdditional(Path dataDirectory, T object) throws IOException {
+    protected void serializeAdditional(final Path dataDirectory, final T object, final Set<Path> files) throws IOException {
     }
 
-    public static void writePackMetadata(final String token, final Path directory) throws IOException {
+    public static Path writePackMetadata(final String token, final Path directory) throws IOException {
         // Write our pack metadata
         final Path packMeta = directory.resolve("pack.mcmeta");
-        Files.deleteIfExists(packMeta);
         final JsonObject packDataRoot = new JsonObject();
         final JsonObject packData = new JsonObject();
         packDataRoot.add("pack", packData);
@@ -86,13 +97,45 @@ public static void writePackMetadata(final String token, final Path directory) t
         packData.addProperty("description", "Sponge plugin provided " + token);
 
         DataPackSerializer.writeFile(packMeta, packDataRoot);
+        return packMeta;
     }
 
-    public static void writeFile(final Path file, final JsonElement object) throws IOException {
-        Files.deleteIfExists(file);
+    /**
+     * Writes the json to the file, unless the file already has exactly that
+     * content. Leaving unchanged files alone keeps their modification time
+     * and avoids rewriting every file on each start.
+     *
+     * @param file The file
+     * @param object The json to write
+     * @return Whether the file was written
+     * @throws IOException If the file could not be read or written
+     */
+    public static boolean writeFile(final Path file, final JsonElement object) throws IOException {
+        final byte[] content = object.toString().getBytes(StandardCharsets.UTF_8);
+        if (Files.isRegularFile(file) && Files.size(file) == content.length && Arrays.equals(Files.readAllBytes(file), content)) {
+            return false;
+        }
+
+        Files.write(file, content);
+        return true;
+    }
 
-        try (BufferedWriter bufferedwriter = Files.newBufferedWriter(file)) {
-            bufferedwriter.write(object.toString());
+    private static void deleteStaleFiles(final Path directory, final Set<Path> files) throws IOException {
+        final List<Path> stale;
+        try (final Stream<Path> stream = Files.walk(directory)) {
+            stale = stream.filter(p -> !files.contains(p))
+                    .sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+        for (final Path path : stale) {
+            if (Files.isDirectory(path)) {
+                try (final Stream<Path> children = Files.list(path)) {
+                    if (children.findAny().isPresent()) {
+                        continue;
+                    }
+                }
+            }
+            Files.delete(path);
         }
     }
 
@@ -26,6 +26,7 @@
 
 import com.google.gson.JsonObject;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.util.Util;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.Sponge;
@@ -41,8 +42,11 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public final class SpongeDataPackManager {
 
@@ -72,30 +76,56 @@ public void callRegisterDataPackValueEvents() {
 
     @SuppressWarnings("unchecked")
     public void serialize(final Path dataPacksDirectory, Collection<String> dataPacksToLoad) throws IOException {
+        // The objects are serialized here, as they may read game state that is only safe to access from this thread.
+        // Only writing the files of each pack type is done on its own thread.
+        final Map<SpongeDataPackType, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
         for (final Map.Entry<SpongeDataPackType, List<DataPackSerializable>> entry : this.serializables.entrySet()) {
             final SpongeDataPackType key = entry.getKey();
-            final List<DataPackSerializable> value = entry.getValue();
-
             final List<DataPackSerializedObject> serialized = new ArrayList<>();
 
-            for (final DataPackSerializable serializable : value) {
+            for (final DataPackSerializable serializable : entry.getValue()) {
                 final JsonObject o = (JsonObject) key.getObjectSerializer().serialize(serializable);
                 serialized.add((DataPackSerializedObject) key.getObjectFunction().apply(serializable, o));
             }
 
+            futures.put(key, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return key.getPackSerializer().serialize(key, dataPacksDirectory, serialized);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, Util.backgroundExecutor()));
+        }
+
+        IOException exception = null;
+        for (final Map.Entry<SpongeDataPackType, CompletableFuture<Boolean>> entry : futures.entrySet()) {
+            final String packName = "file/" + entry.getKey().getPackSerializer().getPackName();
+
             // When reloading we must update the dataPacksToLoad
             try {
-                if (key.getPackSerializer().serialize(key, dataPacksDirectory, serialized)) {
-                    dataPacksToLoad.add("file/" + key.getPackSerializer().getPackName());
+                if (entry.getValue().join()) {
+                    dataPacksToLoad.add(packName);
                 } else {
-                    dataPacksToLoad.remove("file/" + key.getPackSerializer().getPackName());
+                    dataPacksToLoad.remove(packName);
+                }
+            } catch (final CompletionException e) {
+                dataPacksToLoad.remove(packName);
+                if (!(e.getCause() instanceof IOException)) {
+                    throw e;
+                }
+                final IOException cause = (IOException) e.getCause();
+                if (exception == null) {
+                    exception = cause;
+                } else {
+                    exception.addSuppressed(cause);
                 }
-            } catch (final IOException e) {
-                dataPacksToLoad.remove("file/" + key.getPackSerializer().getPackName());
-                throw e;
             }
         }
 
+        if (exception != null) {
+            throw exception;
+        }
+
         this.reset();
     }
 
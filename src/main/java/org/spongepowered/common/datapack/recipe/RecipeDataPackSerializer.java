@@ -29,6 +29,7 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 
 public final class RecipeDataPackSerializer extends DataPackSerializer<RecipeSerializedObject> {
 
@@ -37,11 +38,12 @@ public RecipeDataPackSerializer() {
     }
 
     @Override
-    protected void serializeAdditional(final Path dataDirectory, final RecipeSerializedObject object) throws IOException {
+    protected void serializeAdditional(final Path dataDirectory, final RecipeSerializedObject object, final Set<Path> files) throws IOException {
         if (object.getAdvancementObject() != null) {
             final Path advancementFile = dataDirectory.resolve("advancements").resolve(object.getAdvancementObject().getKey().getValue() + ".json");
             Files.createDirectories(advancementFile.getParent());
-            this.writeFile(advancementFile, object.getAdvancementObject().getObject());
+            DataPackSerializer.writeFile(advancementFile, object.getAdvancementObject().getObject());
+            files.add(advancementFile);
         }
     }
 }
@@ -24,8 +24,11 @@
  */
 package org.spongepowered.common.effect.particle;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.IPacket;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPlaySoundEventPacket;
 import net.minecraft.network.play.server.SSpawnParticlePacket;
 import net.minecraft.particles.BasicParticleType;
@@ -37,6 +40,7 @@
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.effect.particle.ParticleEffect;
@@ -45,28 +49,75 @@
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.Color;
 import org.spongepowered.api.util.Direction;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.network.BatchedPacketWriter;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3f;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public final class SpongeParticleHelper {
 
     public static void sendPackets(final ParticleEffect particleEffect, final Vector3d position, final int radius, final RegistryKey<World> type,
                                    final PlayerList playerList) {
         final List<IPacket<?>> packets = SpongeParticleHelper.toPackets(particleEffect, position);
+        if (packets.isEmpty()) {
+            return;
+        }
+        final ServerWorld world = playerList.getServer().getLevel(type);
+        if (world == null) {
+            return;
+        }
+
+        // Collect the recipients once instead of scanning every player for each packet
+        final double x = position.getX();
+        final double y = position.getY();
+        final double z = position.getZ();
+        final double radiusSquared = (double) radius * (double) radius;
+        final List<ServerPlayerEntity> recipients = new ArrayList<>();
+        for (final ServerPlayerEntity player : world.players()) {
+            if (player.distanceToSqr(x, y, z) < radiusSquared) {
+                recipients.add(player);
+            }
+        }
+        if (recipients.isEmpty()) {
+            return;
+        }
 
-        if (!packets.isEmpty()) {
-            final double x = position.getX();
-            final double y = position.getY();
-            final double z = position.getZ();
+        for (final IPacket<?> packet : packets) {
+            SpongeParticleHelper.broadcast(packet, recipients);
+        }
+    }
 
-            for (final IPacket<?> packet : packets) {
-                playerList.broadcast(null, x, y, z, radius, type, packet);
+    private static void broadcast(final IPacket<?> packet, final List<ServerPlayerEntity> recipients) {
+        if (recipients.size() == 1) {
+            BatchedPacketWriter.write(recipients.get(0).connection.connection, packet);
+            return;
+        }
+        final ByteBuf encoded;
+        try {
+            encoded = BatchedPacketWriter.encode(packet);
+        } catch (final IOException | RuntimeException e) {
+            SpongeCommon.getLogger().debug("Failed to pre-encode particle packet, sending individually", e);
+            for (final ServerPlayerEntity recipient : recipients) {
+                BatchedPacketWriter.write(recipient.connection.connection, packet);
+            }
+            return;
+        }
+        try {
+            for (final ServerPlayerEntity recipient : recipients) {
+                final NetworkManager connection = recipient.connection.connection;
+                if (!BatchedPacketWriter.write(connection, encoded)) {
+                    connection.send(packet);
+                }
             }
+        } finally {
+            encoded.release();
         }
     }
 
@@ -241,7 +292,7 @@ public void process(final Vector3d position, final List<IPacket<?>> output) {
                 final float velocityX = this.velocity.getX();
                 final float velocityY = this.velocity.getY();
                 final float velocityZ = this.velocity.getZ();
-                final Random random = new Random();
+                final Random random = ThreadLocalRandom.current();
                 for (int i = 0; i < this.quantity; i++) {
                     final float px0 = posX + (random.nextFloat() * 2f - 1f) * offX;
                     final float py0 = posY + (random.nextFloat() * 2f - 1f) * offY;
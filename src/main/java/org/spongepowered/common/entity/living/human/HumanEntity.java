@@ -380,7 +380,7 @@ public boolean getOrLoadSkin(final String minecraftAccount) {
     }
 
     public void removeFromTabListDelayed(@Nullable final ServerPlayerEntity player, final SPlayerListItemPacket removePacket) {
-        final int delay = SpongeGameConfigs.getForWorld(this.level).get().entity.human.tabListRemoveDelay;
+        final int delay = SpongeGameConfigs.getSnapshot(this.level).humanTabListRemoveDelay;
         final Runnable removeTask = () -> this.pushPackets(player, removePacket);
         if (delay == 0) {
             removeTask.run();
@@ -0,0 +1,423 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which methods of a listener class are valid {@link Listener}
+ * methods, so that registering a listener does not need to reflect over
+ * every method of its class hierarchy. Each method is stored with its
+ * declaring class and the settings of its annotation, so a cached method is
+ * looked up directly and its annotation isn't read again.
+ *
+ * <p>Listener methods are persisted between runs together with the path,
+ * size and modification time of every jar that contributes a class to the
+ * hierarchy of the listener class, since listener methods may be inherited
+ * from other jars. An entry is discarded as soon as any of those jars
+ * changed. Classes whose hierarchy is not entirely loaded from jars are
+ * never persisted.</p>
+ */
+final class ListenerMethodIndex {
+
+    private static final int VERSION = 3;
+
+    private final Map<Class<?>, List<ListenerMethod>> resolved = new ConcurrentHashMap<>();
+    private final Map<String, ClassEntry> classes = new HashMap<>();
+    private final Map<Path, Optional<JarStamp>> stamps = new HashMap<>();
+    private @Nullable Path file;
+    private boolean loaded;
+    private boolean dirty;
+
+    /**
+     * Gets the listener methods of the given class, if known.
+     *
+     * @param type The listener class
+     * @return The listener methods, or null if the class must be scanned
+     */
+    synchronized @Nullable List<ListenerMethod> get(final Class<?> type) {
+        final List<ListenerMethod> methods = this.resolved.get(type);
+        if (methods != null) {
+            return methods;
+        }
+
+        this.ensureLoaded();
+        final @Nullable ClassEntry entry = this.classes.get(type.getName());
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.jars.equals(this.getHierarchyJars(type))) {
+            this.invalidate(type);
+            return null;
+        }
+
+        final List<ListenerMethod> resolvedMethods = new ArrayList<>(entry.methods.size());
+        try {
+            for (final MethodEntry method : entry.methods) {
+                final Class<?> declaringClass = ListenerMethodIndex.resolveClass(method.declaringClass, type.getClassLoader());
+                final Class<?>[] parameters = new Class<?>[method.parameters.length];
+                for (int i = 0; i < parameters.length; i++) {
+                    parameters[i] = ListenerMethodIndex.resolveClass(method.parameters[i], type.getClassLoader());
+                }
+                resolvedMethods.add(new ListenerMethod(declaringClass.getDeclaredMethod(method.name, parameters), method.order,
+                        method.beforeModifications));
+            }
+        } catch (final ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            this.invalidate(type);
+            return null;
+        }
+        this.resolved.put(type, resolvedMethods);
+        return resolvedMethods;
+    }
+
+    /**
+     * Forgets the listener methods of the given class, for example when the
+     * cached methods turned out to be stale.
+     *
+     * @param type The listener class
+     */
+    synchronized void invalidate(final Class<?> type) {
+        this.resolved.remove(type);
+        if (this.classes.remove(type.getName()) != null) {
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Records the listener methods of the given class.
+     *
+     * @param type The listener class
+     * @param methods The valid listener methods
+     * @param persist Whether the methods may be persisted for later runs
+     */
+    synchronized void put(final Class<?> type, final List<ListenerMethod> methods, final boolean persist) {
+        this.resolved.put(type, Collections.unmodifiableList(new ArrayList<>(methods)));
+        if (!persist) {
+            return;
+        }
+
+        this.ensureLoaded();
+        final @Nullable List<JarStamp> jars = this.getHierarchyJars(type);
+        if (jars == null) {
+            return;
+        }
+
+        final List<MethodEntry> entries = new ArrayList<>(methods.size());
+        for (final ListenerMethod listenerMethod : methods) {
+            final Class<?>[] parameterTypes = listenerMethod.method.getParameterTypes();
+            final String[] parameters = new String[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameters[i] = parameterTypes[i].getName();
+            }
+            entries.add(new MethodEntry(listenerMethod.method.getDeclaringClass().getName(), listenerMethod.method.getName(), parameters,
+                    listenerMethod.order, listenerMethod.beforeModifications));
+        }
+        this.classes.put(type.getName(), new ClassEntry(jars, entries));
+        this.dirty = true;
+    }
+
+    synchronized void save() {
+        if (!this.dirty || this.file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path tmp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                final List<Map.Entry<String, ClassEntry>> entries = new ArrayList<>();
+                for (final Map.Entry<String, ClassEntry> entry : this.classes.entrySet()) {
+                    // Drop the classes of jars that were removed
+                    if (entry.getValue().jars.stream().allMatch(jar -> Files.isRegularFile(jar.path))) {
+                        entries.add(entry);
+                    }
+                }
+                out.writeInt(ListenerMethodIndex.VERSION);
+                out.writeInt(entries.size());
+                for (final Map.Entry<String, ClassEntry> entry : entries) {
+                    final ClassEntry classEntry = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(classEntry.jars.size());
+                    for (final JarStamp jar : classEntry.jars) {
+                        out.writeUTF(jar.path.toString());
+                        out.writeLong(jar.size);
+                        out.writeLong(jar.lastModified);
+                    }
+                    out.writeInt(classEntry.methods.size());
+                    for (final MethodEntry method : classEntry.methods) {
+                        out.writeUTF(method.declaringClass);
+                        out.writeUTF(method.name);
+                        out.writeByte(method.parameters.length);
+                        for (final String parameter : method.parameters) {
+                            out.writeUTF(parameter);
+                        }
+                        out.writeUTF(method.order.name());
+                        out.writeBoolean(method.beforeModifications);
+                    }
+                }
+            }
+            Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.dirty = false;
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Failed to save the listener index to {}", this.file, e);
+        }
+    }
+
+    /**
+     * Gets the jars of every class the listener class inherits from, or null
+     * if any of them isn't loaded from a jar. Classes of the bootstrap class
+     * loader are part of the runtime and are not tracked.
+     */
+    private @Nullable List<JarStamp> getHierarchyJars(final Class<?> type) {
+        final Set<Path> paths = new LinkedHashSet<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            final Class<?> next = queue.poll();
+            if (!visited.add(next) || next.getClassLoader() == null) {
+                continue;
+            }
+            final @Nullable Path jar = ListenerMethodIndex.getJar(next);
+            if (jar == null) {
+                return null;
+            }
+            paths.add(jar);
+            if (next.getSuperclass() != null) {
+                queue.add(next.getSuperclass());
+            }
+            Collections.addAll(queue, next.getInterfaces());
+        }
+
+        final List<JarStamp> jars = new ArrayList<>(paths.size());
+        for (final Path path : paths) {
+            final Optional<JarStamp> stamp = this.stamps.computeIfAbsent(path, JarStamp::of);
+            if (!stamp.isPresent()) {
+                return null;
+            }
+            jars.add(stamp.get());
+        }
+        return jars;
+    }
+
+    private void ensureLoaded() {
+        if (this.loaded) {
+            return;
+        }
+        this.loaded = true;
+        this.file = SpongeCommon.getGameDirectory().resolve("cache").resolve("sponge").resolve("listeners.idx");
+        if (Files.notExists(this.file)) {
+            return;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if (in.readInt() != ListenerMethodIndex.VERSION) {
+                this.dirty = true;
+                return;
+            }
+            final int classCount = in.readInt();
+            for (int i = 0; i < classCount; i++) {
+                final String className = in.readUTF();
+                final int jarCount = in.readInt();
+                final List<JarStamp> jars = new ArrayList<>(jarCount);
+                for (int j = 0; j < jarCount; j++) {
+                    jars.add(new JarStamp(Paths.get(in.readUTF()), in.readLong(), in.readLong()));
+                }
+                final int methodCount = in.readInt();
+                final List<MethodEntry> methods = new ArrayList<>(methodCount);
+                for (int j = 0; j < methodCount; j++) {
+                    final String declaringClass = in.readUTF();
+                    final String name = in.readUTF();
+                    final String[] parameters = new String[in.readUnsignedByte()];
+                    for (int k = 0; k < parameters.length; k++) {
+                        parameters[k] = in.readUTF();
+                    }
+                    methods.add(new MethodEntry(declaringClass, name, parameters, Order.valueOf(in.readUTF()), in.readBoolean()));
+                }
+                this.classes.put(className, new ClassEntry(jars, methods));
+            }
+        } catch (final IOException | RuntimeException e) {
+            SpongeCommon.getLogger().warn("Failed to read the listener index from {}, listeners will be scanned", this.file, e);
+            this.classes.clear();
+            this.dirty = true;
+        }
+    }
+
+    private static Class<?> resolveClass(final String name, final ClassLoader loader) throws ClassNotFoundException {
+        switch (name) {
+            case "boolean":
+                return boolean.class;
+            case "byte":
+                return byte.class;
+            case "short":
+                return short.class;
+            case "char":
+                return char.class;
+            case "int":
+                return int.class;
+            case "long":
+                return long.class;
+            case "float":
+                return float.class;
+            case "double":
+                return double.class;
+            default:
+                return Class.forName(name, false, loader);
+        }
+    }
+
+    private static @Nullable Path getJar(final Class<?> type) {
+        final @Nullable CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return null;
+        }
+        final @Nullable URL location = codeSource.getLocation();
+        if (location == null || !"file".equals(location.getProtocol())) {
+            return null;
+        }
+        try {
+            final Path path = Paths.get(location.toURI());
+            return Files.isRegularFile(path) ? path : null;
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A valid listener method together with the settings of its
+     * {@link Listener} annotation.
+     */
+    static final class ListenerMethod {
+
+        final Method method;
+        final Order order;
+        final boolean beforeModifications;
+
+        ListenerMethod(final Method method, final Order order, final boolean beforeModifications) {
+            this.method = method;
+            this.order = order;
+            this.beforeModifications = beforeModifications;
+        }
+
+        ListenerMethod(final Method method, final Listener listener) {
+            this(method, listener.order(), listener.beforeModifications());
+        }
+    }
+
+    private static final class ClassEntry {
+
+        final List<JarStamp> jars;
+        final List<MethodEntry> methods;
+
+        ClassEntry(final List<JarStamp> jars, final List<MethodEntry> methods) {
+            this.jars = jars;
+            this.methods = methods;
+        }
+    }
+
+    private static final class MethodEntry {
+
+        final String declaringClass;
+        final String name;
+        final String[] parameters;
+        final Order order;
+        final boolean beforeModifications;
+
+        MethodEntry(final String declaringClass, final String name, final String[] parameters, final Order order,
+                final boolean beforeModifications) {
+            this.declaringClass = declaringClass;
+            this.name = name;
+            this.parameters = parameters;
+            this.order = order;
+            this.beforeModifications = beforeModifications;
+        }
+    }
+
+    private static final class JarStamp {
+
+        final Path path;
+        final long size;
+        final long lastModified;
+
+        JarStamp(final Path path, final long size, final long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static Optional<JarStamp> of(final Path path) {
+            try {
+                return Optional.of(new JarStamp(path, Files.size(path), Files.getLastModifiedTime(path).toMillis()));
+            } catch (final IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final JarStamp that = (JarStamp) o;
+            return this.size == that.size && this.lastModified == that.lastModified && this.path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.path, this.size, this.lastModified);
+        }
+    }
+}
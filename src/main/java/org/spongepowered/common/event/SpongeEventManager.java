@@ -93,6 +93,7 @@ public final class SpongeEventManager implements EventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
     private final Set<Object> registeredListeners;
+    private final ListenerMethodIndex listenerIndex = new ListenerMethodIndex();
 
     public final ListenerChecker checker;
 
@@ -244,38 +245,50 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
             this.classLoaders.put(handleLoader, handlerFactory);
         }
 
-        for (final Method method : handle.getMethods()) {
-            final Listener listener = method.getAnnotation(Listener.class);
-            if (listener != null) {
-                final String error = SpongeEventManager.getHandlerErrorOrNull(method);
-                if (error == null) {
-                    final Type eventType = method.getGenericParameterTypes()[0];
-                    final AnnotatedEventListener handler;
-                    try {
-                        handler = handlerFactory.create(listenerObject, method);
-                    } catch (final Exception e) {
-                        this.logger.error("Failed to create handler for {} on {}", method, handle, e);
-                        continue;
+        List<ListenerMethodIndex.ListenerMethod> listenerMethods = this.listenerIndex.get(handle);
+        if (listenerMethods == null) {
+            listenerMethods = new ArrayList<>();
+            for (final Method method : handle.getMethods()) {
+                @Nullable final Listener listener = method.getAnnotation(Listener.class);
+                if (listener != null) {
+                    final String error = SpongeEventManager.getHandlerErrorOrNull(method);
+                    if (error == null) {
+                        listenerMethods.add(new ListenerMethodIndex.ListenerMethod(method, listener));
+                    } else {
+                        methodErrors.put(method, error);
                     }
-
-                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, handler));
-                } else {
-                    methodErrors.put(method, error);
                 }
             }
-        }
 
-        // getMethods() doesn't return private methods. Do another check to warn
-        // about those.
-        for (Class<?> handleParent = handle; handleParent != Object.class; handleParent = handleParent.getSuperclass()) {
-            for (final Method method : handleParent.getDeclaredMethods()) {
-                if (method.getAnnotation(Listener.class) != null && !methodErrors.containsKey(method)) {
-                    final String error = SpongeEventManager.getHandlerErrorOrNull(method);
-                    if (error != null) {
-                        methodErrors.put(method, error);
+            // getMethods() doesn't return private methods. Do another check to warn
+            // about those.
+            for (Class<?> handleParent = handle; handleParent != Object.class; handleParent = handleParent.getSuperclass()) {
+                for (final Method method : handleParent.getDeclaredMethods()) {
+                    if (method.getAnnotation(Listener.class) != null && !methodErrors.containsKey(method)) {
+                        final String error = SpongeEventManager.getHandlerErrorOrNull(method);
+                        if (error != null) {
+                            methodErrors.put(method, error);
+                        }
                     }
                 }
             }
+
+            // Only persist classes without errors, so that the warnings below keep showing up
+            this.listenerIndex.put(handle, listenerMethods, methodErrors.isEmpty());
+        }
+
+        for (final ListenerMethodIndex.ListenerMethod listenerMethod : listenerMethods) {
+            final Method method = listenerMethod.method;
+            final Type eventType = method.getGenericParameterTypes()[0];
+            final AnnotatedEventListener handler;
+            try {
+                handler = handlerFactory.create(listenerObject, method);
+            } catch (final Exception e) {
+                this.logger.error("Failed to create handler for {} on {}", method, handle, e);
+                continue;
+            }
+
+            handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listenerMethod.order, listenerMethod.beforeModifications, handler));
         }
 
         for (Map.Entry<Method, String> method : methodErrors.entrySet()) {
@@ -287,11 +300,6 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
         this.register(handlers);
     }
 
-    private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-            final Listener listener, final EventListener<? super T> handler) {
-        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
-    }
-
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
             final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
@@ -303,6 +311,14 @@ private static <T extends Event> RegisteredListener<T> createRegistration(final
         return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
     }
 
+    /**
+     * Persists the listener methods discovered so far, so that later runs can
+     * skip scanning unchanged listener classes.
+     */
+    public void saveListenerIndex() {
+        this.listenerIndex.save();
+    }
+
     @Override
     public void registerListeners(final PluginContainer plugin, final Object listener) {
         this.registerListener(plugin, listener);
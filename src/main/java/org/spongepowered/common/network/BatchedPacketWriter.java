@@ -0,0 +1,192 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.local.LocalAddress;
+import net.minecraft.network.IPacket;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.PacketDirection;
+import net.minecraft.network.ProtocolType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.network.NetworkManagerAccessor;
+import org.spongepowered.common.bridge.network.PacketBufferBridge;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes clientbound play packets to connections without flushing them
+ * immediately. Written channels are flushed once at the end of the server
+ * tick, so packets produced over a tick leave in as few writes as possible.
+ *
+ * <p>Packets that are sent to many connections may be encoded once with
+ * {@link #encode(IPacket)}, the resulting buffer is then shared by all
+ * recipients and only passes through the compression and framing handlers
+ * of each connection.</p>
+ *
+ * <p>Writing to the channel bypasses {@link NetworkManager#send(IPacket)},
+ * so these packets are not counted in the sent packet statistics of the
+ * connection. Connections that can't be written to directly, like the
+ * integrated server's connection to its host, or that still have packets
+ * queued, are sent packets through {@link NetworkManager#send(IPacket)}
+ * instead.</p>
+ */
+public final class BatchedPacketWriter {
+
+    private static final Set<Channel> PENDING_FLUSH = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Encodes the packet id and contents of a clientbound play packet, in the
+     * same format as the vanilla packet encoder.
+     *
+     * @param packet The packet
+     * @return The encoded packet in a pooled buffer, which must be released by the caller
+     * @throws IOException If the packet could not be encoded
+     */
+    public static ByteBuf encode(final IPacket<?> packet) throws IOException {
+        return BatchedPacketWriter.encode(packet, null);
+    }
+
+    /**
+     * Encodes the packet id and contents of a clientbound play packet,
+     * rendering any components it contains for the given locale like the
+     * vanilla packet encoder does for each connection.
+     *
+     * @param packet The packet
+     * @param locale The locale of the recipients, if known
+     * @return The encoded packet in a pooled buffer, which must be released by the caller
+     * @throws IOException If the packet could not be encoded
+     */
+    public static ByteBuf encode(final IPacket<?> packet, final @Nullable Locale locale) throws IOException {
+        final Integer id = ProtocolType.PLAY.getPacketId(PacketDirection.CLIENTBOUND, packet);
+        if (id == null) {
+            throw new IOException("Can't serialize unregistered packet " + packet.getClass().getName());
+        }
+        final PacketBuffer buffer = new PacketBuffer(PooledByteBufAllocator.DEFAULT.directBuffer());
+        ((PacketBufferBridge) buffer).bridge$setLocale(locale);
+        try {
+            buffer.writeVarInt(id);
+            packet.write(buffer);
+        } catch (final IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes a buffer obtained from {@link #encode(IPacket)} to the
+     * connection, without releasing the given buffer.
+     *
+     * @param connection The connection
+     * @param encoded The encoded packet
+     * @return Whether the packet was written
+     */
+    public static boolean write(final NetworkManager connection, final ByteBuf encoded) {
+        final @Nullable Channel channel = BatchedPacketWriter.playChannel(connection);
+        if (channel == null) {
+            return false;
+        }
+        channel.write(encoded.retainedDuplicate(), channel.voidPromise());
+        BatchedPacketWriter.PENDING_FLUSH.add(channel);
+        return true;
+    }
+
+    /**
+     * Writes a packet to the connection, falling back to a regular send if the
+     * connection is not ready for batched writes.
+     *
+     * @param connection The connection
+     * @param packet The packet
+     */
+    public static void write(final NetworkManager connection, final IPacket<?> packet) {
+        final @Nullable Channel channel = BatchedPacketWriter.playChannel(connection);
+        if (channel == null) {
+            connection.send(packet);
+            return;
+        }
+        channel.write(packet, channel.voidPromise());
+        BatchedPacketWriter.PENDING_FLUSH.add(channel);
+    }
+
+    /**
+     * Flushes every channel that was written to since the last flush, along
+     * with every connection whose flush was deferred by its
+     * {@link TickFlushHandler}.
+     */
+    public static void flush() {
+        final Iterator<Channel> iterator = BatchedPacketWriter.PENDING_FLUSH.iterator();
+        while (iterator.hasNext()) {
+            final Channel channel = iterator.next();
+            iterator.remove();
+            if (channel.isOpen()) {
+                channel.flush();
+            }
+        }
+        TickFlushHandler.flushPending();
+    }
+
+    /**
+     * Gets the channel of the connection if packets may be written to it
+     * directly, see {@link #acceptsEncoded(Channel)}. Packets queued by the
+     * connection must leave first, so connections with queued packets are
+     * never written to directly.
+     *
+     * @param connection The connection
+     * @return The channel, or null if packets must go through {@link NetworkManager#send(IPacket)}
+     */
+    public static @Nullable Channel playChannel(final NetworkManager connection) {
+        final @Nullable Channel channel = ((NetworkManagerAccessor) connection).accessor$channel();
+        if (channel == null || !((NetworkManagerAccessor) connection).accessor$queue().isEmpty()
+                || !BatchedPacketWriter.acceptsEncoded(channel)) {
+            return null;
+        }
+        return channel;
+    }
+
+    /**
+     * Gets whether encoded play packets may be written to the channel. That
+     * requires an open, remote channel in the play phase with an encoder in
+     * its pipeline. The integrated server's channel to its host has no
+     * encoder, encoded buffers written to it would never reach the client.
+     *
+     * @param channel The channel
+     * @return Whether encoded packets may be written to the channel
+     */
+    public static boolean acceptsEncoded(final Channel channel) {
+        return channel.isOpen() && channel.attr(NetworkManager.ATTRIBUTE_PROTOCOL).get() == ProtocolType.PLAY
+                && !(channel.remoteAddress() instanceof LocalAddress) && channel.pipeline().get("encoder") != null;
+    }
+
+    private BatchedPacketWriter() {
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.stream.JsonReader;
+import com.mojang.authlib.properties.Property;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The player data a BungeeCord compatible proxy forwards in the host name of
+ * the handshake, in the form {@code host\0address\0uuid[\0properties]}.
+ *
+ * <p>The host name is scanned in place, only the host and address are
+ * copied out of it. The profile properties are decoded on a separate thread,
+ * so the network threads don't spend time on them during a login storm.</p>
+ */
+public final class ForwardedConnectionData {
+
+    private static final char SEPARATOR = '\0';
+    private static final String EXTRA_DATA = "\0|";
+
+    private static final ExecutorService DECODE_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true).setNameFormat("Sponge - Forwarded Profile Decode Thread").build());
+
+    /**
+     * Parses the forwarded data from the host name of a handshake.
+     *
+     * @param host The host name
+     * @return The forwarded data, or null if the host name doesn't contain valid forwarded data
+     */
+    public static @Nullable ForwardedConnectionData parse(final String host) {
+        final int extra = host.indexOf(ForwardedConnectionData.EXTRA_DATA);
+        // Any extra data is ignored
+        final int end = extra == -1 ? host.length() : extra;
+
+        final int hostEnd = ForwardedConnectionData.indexOfSeparator(host, 0, end);
+        final int addressEnd = hostEnd == -1 ? -1 : ForwardedConnectionData.indexOfSeparator(host, hostEnd + 1, end);
+        if (addressEnd == -1) {
+            return null;
+        }
+        int uuidEnd = ForwardedConnectionData.indexOfSeparator(host, addressEnd + 1, end);
+        final @Nullable String properties;
+        if (uuidEnd == -1) {
+            uuidEnd = end;
+            properties = null;
+        } else if (ForwardedConnectionData.indexOfSeparator(host, uuidEnd + 1, end) != -1) {
+            return null;
+        } else {
+            // An empty trailing part is the same as no properties
+            properties = uuidEnd + 1 == end ? null : host.substring(uuidEnd + 1, end);
+        }
+
+        final @Nullable UUID uniqueId = ForwardedConnectionData.parseUniqueId(host, addressEnd + 1, uuidEnd);
+        if (uniqueId == null) {
+            return null;
+        }
+        return new ForwardedConnectionData(host.substring(0, hostEnd), host.substring(hostEnd + 1, addressEnd), uniqueId, properties);
+    }
+
+    private static int indexOfSeparator(final String value, final int from, final int end) {
+        final int index = value.indexOf(ForwardedConnectionData.SEPARATOR, from);
+        return index < end ? index : -1;
+    }
+
+    /**
+     * Parses a unique id with or without dashes from a part of the given
+     * string, without copying it.
+     *
+     * @param value The string
+     * @param start The start of the unique id, inclusive
+     * @param end The end of the unique id, exclusive
+     * @return The unique id, or null if it isn't valid
+     */
+    static @Nullable UUID parseUniqueId(final CharSequence value, final int start, final int end) {
+        final int length = end - start;
+        if (length != 32 && length != 36) {
+            return null;
+        }
+        long most = 0;
+        long least = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '-') {
+                final int offset = i - start;
+                if (length == 32 || (offset != 8 && offset != 13 && offset != 18 && offset != 23)) {
+                    return null;
+                }
+                continue;
+            }
+            final int digit = Character.digit(c, 16);
+            if (digit == -1) {
+                return null;
+            }
+            if (digits < 16) {
+                most = (most << 4) | digit;
+            } else {
+                least = (least << 4) | digit;
+            }
+            digits++;
+        }
+        return digits == 32 ? new UUID(most, least) : null;
+    }
+
+    /**
+     * Decodes a json array of profile properties, as sent by the proxy.
+     *
+     * @param json The json
+     * @return The properties
+     * @throws IOException If the json isn't a valid array of properties
+     */
+    static Property[] decodeProperties(final String json) throws IOException {
+        final List<Property> properties = new ArrayList<>();
+        try (final JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                @Nullable String name = null;
+                @Nullable String value = null;
+                @Nullable String signature = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "name":
+                            name = reader.nextString();
+                            break;
+                        case "value":
+                            value = reader.nextString();
+                            break;
+                        case "signature":
+                            signature = reader.nextString();
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
+                    }
+                }
+                reader.endObject();
+                if (name == null || value == null) {
+                    throw new IOException("Profile property without name or value");
+                }
+                properties.add(signature == null ? new Property(name, value) : new Property(name, value, signature));
+            }
+            reader.endArray();
+        } catch (final IllegalStateException e) {
+            throw new IOException(e);
+        }
+        return properties.toArray(new Property[0]);
+    }
+
+    private final String host;
+    private final String address;
+    private final UUID uniqueId;
+    private final @Nullable String properties;
+
+    private ForwardedConnectionData(final String host, final String address, final UUID uniqueId, final @Nullable String properties) {
+        this.host = host;
+        this.address = address;
+        this.uniqueId = uniqueId;
+        this.properties = properties;
+    }
+
+    /**
+     * Gets the host name the player connected to the proxy with.
+     *
+     * @return The host name
+     */
+    public String getHost() {
+        return this.host;
+    }
+
+    /**
+     * Gets the address of the player.
+     *
+     * @return The address
+     */
+    public String getAddress() {
+        return this.address;
+    }
+
+    /**
+     * Gets the unique id of the player.
+     *
+     * @return The unique id
+     */
+    public UUID getUniqueId() {
+        return this.uniqueId;
+    }
+
+    /**
+     * Starts decoding the forwarded profile properties, if there are any.
+     *
+     * @return The future of the decoded properties, or null if no properties were forwarded
+     */
+    public @Nullable CompletableFuture<Property[]> decodePropertiesAsync() {
+        final @Nullable String properties = this.properties;
+        if (properties == null) {
+            return null;
+        }
+        final CompletableFuture<Property[]> future = new CompletableFuture<>();
+        ForwardedConnectionData.DECODE_EXECUTOR.execute(() -> {
+            try {
+                future.complete(ForwardedConnectionData.decodeProperties(properties));
+            } catch (final IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits the number of logins that are accepted per server tick. A login
+ * that is turned away stays ready to be accepted and is retried on the next
+ * tick, so a burst of logins is admitted in batches rather than stalling a
+ * single tick.
+ *
+ * <p>Only used from the server thread.</p>
+ */
+public final class LoginAdmission {
+
+    private static final LongAdder ADMITTED = new LongAdder();
+    private static final LongAdder DEFERRED = new LongAdder();
+
+    private static int currentTick = -1;
+    private static int admittedThisTick;
+
+    static {
+        RuntimeMetrics.register("login.admitted", LoginAdmission.ADMITTED::sum);
+        RuntimeMetrics.register("login.deferred", LoginAdmission.DEFERRED::sum);
+    }
+
+    /**
+     * Accepts a login if it is ready to be accepted and admitted during the
+     * given tick. A login that isn't ready yet is not admitted, so it doesn't
+     * take up one of the logins of the tick.
+     *
+     * @param tick The current server tick
+     * @param ready Whether the login is ready to be accepted
+     * @param accept Accepts the login
+     * @return Whether the login was accepted
+     */
+    public static boolean accept(final int tick, final BooleanSupplier ready, final Runnable accept) {
+        return LoginAdmission.accept(tick, SpongeConfigs.getCommon().get().network.maxLoginsPerTick, ready, accept);
+    }
+
+    /**
+     * Accepts a login if it is ready to be accepted and admitted during the
+     * given tick.
+     *
+     * @param tick The current server tick
+     * @param limit The maximum number of logins per tick, or 0 for no limit
+     * @param ready Whether the login is ready to be accepted
+     * @param accept Accepts the login
+     * @return Whether the login was accepted
+     */
+    static boolean accept(final int tick, final int limit, final BooleanSupplier ready, final Runnable accept) {
+        if (!ready.getAsBoolean() || !LoginAdmission.tryAdmit(tick, limit)) {
+            return false;
+        }
+        accept.run();
+        return true;
+    }
+
+    /**
+     * Tries to admit a login during the given tick.
+     *
+     * @param tick The current server tick
+     * @return Whether the login may be accepted now
+     */
+    public static boolean tryAdmit(final int tick) {
+        return LoginAdmission.tryAdmit(tick, SpongeConfigs.getCommon().get().network.maxLoginsPerTick);
+    }
+
+    /**
+     * Tries to admit a login during the given tick.
+     *
+     * @param tick The current server tick
+     * @param limit The maximum number of logins per tick, or 0 for no limit
+     * @return Whether the login may be accepted now
+     */
+    static boolean tryAdmit(final int tick, final int limit) {
+        if (tick != LoginAdmission.currentTick) {
+            LoginAdmission.currentTick = tick;
+            LoginAdmission.admittedThisTick = 0;
+        }
+        if (limit > 0 && LoginAdmission.admittedThisTick >= limit) {
+            LoginAdmission.DEFERRED.increment();
+            return false;
+        }
+        LoginAdmission.admittedThisTick++;
+        LoginAdmission.ADMITTED.increment();
+        return true;
+    }
+
+    /**
+     * Forgets the logins admitted so far, so tests start from a clean state.
+     */
+    static void reset() {
+        LoginAdmission.currentTick = -1;
+        LoginAdmission.admittedThisTick = 0;
+    }
+
+    private LoginAdmission() {
+    }
+}
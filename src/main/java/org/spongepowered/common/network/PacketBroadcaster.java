@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import net.minecraft.entity.player.ChatVisibility;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.IPacket;
+import net.minecraft.network.play.ServerPlayNetHandler;
+import net.minecraft.network.play.server.SChatPacket;
+import net.minecraft.util.text.ChatType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.bridge.entity.PlatformEntityBridge;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends a packet containing text to many players at once. The packet is
+ * encoded once per locale of the recipients, rather than once per
+ * recipient, and every recipient sharing a locale receives a duplicate of
+ * the same buffer. Recipients that would not receive the packet through
+ * their connection handler, fake players and players hiding chat, are
+ * skipped.
+ */
+public final class PacketBroadcaster {
+
+    private static final LongAdder ENCODED = new LongAdder();
+    private static final LongAdder SENT = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("broadcast.encoded", PacketBroadcaster.ENCODED::sum);
+        RuntimeMetrics.register("broadcast.sent", PacketBroadcaster.SENT::sum);
+    }
+
+    /**
+     * Sends the packet to all given players.
+     *
+     * @param players The players
+     * @param packet The packet
+     */
+    public static void broadcast(final Iterable<? extends ServerPlayerEntity> players, final IPacket<?> packet) {
+        final Map<@Nullable Locale, @Nullable ByteBuf> encodedByLocale = new HashMap<>();
+        try {
+            for (final ServerPlayerEntity player : players) {
+                if (!PacketBroadcaster.accepts(player, packet)) {
+                    continue;
+                }
+                final @Nullable Channel channel = BatchedPacketWriter.playChannel(player.connection.connection);
+                final @Nullable ByteBuf encoded = channel == null ? null : PacketBroadcaster.encoded(encodedByLocale, channel, packet);
+                if (encoded == null) {
+                    player.connection.send(packet);
+                    continue;
+                }
+                channel.writeAndFlush(encoded.retainedDuplicate(), channel.voidPromise());
+                PacketBroadcaster.SENT.increment();
+            }
+        } finally {
+            for (final @Nullable ByteBuf encoded : encodedByLocale.values()) {
+                if (encoded != null) {
+                    encoded.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the filtering that {@link ServerPlayNetHandler#send(IPacket)}
+     * would, since the shared buffers are written to the channel directly.
+     */
+    private static boolean accepts(final ServerPlayerEntity player, final IPacket<?> packet) {
+        if (((PlatformEntityBridge) player).bridge$isFakePlayer()) {
+            return false;
+        }
+        if (packet instanceof SChatPacket) {
+            final SChatPacket chatPacket = (SChatPacket) packet;
+            final ChatVisibility visibility = player.getChatVisibility();
+            if (visibility == ChatVisibility.HIDDEN && chatPacket.getType() != ChatType.GAME_INFO) {
+                return false;
+            }
+            return visibility != ChatVisibility.SYSTEM || chatPacket.isSystem();
+        }
+        return true;
+    }
+
+    private static @Nullable ByteBuf encoded(final Map<@Nullable Locale, @Nullable ByteBuf> encodedByLocale, final Channel channel, final IPacket<?> packet) {
+        final @Nullable Locale locale = channel.attr(SpongeAdventure.CHANNEL_LOCALE).get();
+        if (encodedByLocale.containsKey(locale)) {
+            return encodedByLocale.get(locale);
+        }
+        @Nullable ByteBuf encoded;
+        try {
+            encoded = BatchedPacketWriter.encode(packet, locale);
+            PacketBroadcaster.ENCODED.increment();
+        } catch (final IOException | RuntimeException e) {
+            // Remember the failure so the remaining recipients go through the regular pipeline straight away
+            SpongeCommon.getLogger().debug("Failed to pre-encode broadcast packet, sending individually", e);
+            encoded = null;
+        }
+        encodedByLocale.put(locale, encoded);
+        return encoded;
+    }
+
+    private PacketBroadcaster() {
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.IPacket;
+import net.minecraft.network.play.server.SChunkDataPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.network.NettyCompressionEncoderBridge;
+import org.spongepowered.common.bridge.network.play.server.SChunkDataPacketBridge;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A chunk packet on its way to a connection whose compressed form is shared
+ * with every other connection the same packet is sent to. The first
+ * connection to write it encodes and compresses the packet, the compressed
+ * frame is kept on the packet and the other connections only frame and
+ * encrypt it.
+ *
+ * <p>This message passes the packet encoder untouched and is handled by the
+ * compression encoder, so it may only be written to channels that compress
+ * packets.</p>
+ */
+public final class SharedCompressedPacket {
+
+    private static final LongAdder COMPRESSED = new LongAdder();
+    private static final LongAdder REUSED = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("compression.shared.compressed", SharedCompressedPacket.COMPRESSED::sum);
+        RuntimeMetrics.register("compression.shared.reused", SharedCompressedPacket.REUSED::sum);
+    }
+
+    /**
+     * The compressed frame of a packet, before length prefixing.
+     */
+    public static final class Frame {
+
+        final byte[] data;
+        final int uncompressedSize;
+        final int threshold;
+
+        Frame(final byte[] data, final int uncompressedSize, final int threshold) {
+            this.data = data;
+            this.uncompressedSize = uncompressedSize;
+            this.threshold = threshold;
+        }
+    }
+
+    private final SChunkDataPacket packet;
+
+    public SharedCompressedPacket(final SChunkDataPacket packet) {
+        this.packet = packet;
+    }
+
+    public IPacket<?> getPacket() {
+        return this.packet;
+    }
+
+    /**
+     * Gets the compressed frame of the packet for the given connection,
+     * compressing it with the encoder of that connection if no other
+     * connection did so yet.
+     *
+     * @param encoder The compression encoder of the connection
+     * @return The compressed frame, or null if the packet must be compressed by the connection itself
+     */
+    public @Nullable ByteBuf frame(final NettyCompressionEncoderBridge encoder) {
+        final SChunkDataPacketBridge bridge = (SChunkDataPacketBridge) this.packet;
+        final Frame frame;
+        synchronized (bridge) {
+            final @Nullable Frame shared = bridge.bridge$getSharedFrame();
+            if (shared != null) {
+                if (shared.threshold != encoder.bridge$getThreshold()) {
+                    return null;
+                }
+                frame = shared;
+                SharedCompressedPacket.REUSED.increment();
+            } else {
+                frame = this.compress(encoder);
+                if (frame == null) {
+                    return null;
+                }
+                bridge.bridge$setSharedFrame(frame);
+                SharedCompressedPacket.COMPRESSED.increment();
+            }
+        }
+        encoder.bridge$recordShared(frame.uncompressedSize, frame.data.length);
+        return Unpooled.wrappedBuffer(frame.data);
+    }
+
+    private @Nullable Frame compress(final NettyCompressionEncoderBridge encoder) {
+        final ByteBuf encoded;
+        try {
+            encoded = BatchedPacketWriter.encode(this.packet);
+        } catch (final IOException | RuntimeException e) {
+            SpongeCommon.getLogger().debug("Failed to encode shared chunk packet, compressing it per connection", e);
+            return null;
+        }
+        final ByteBuf out = Unpooled.buffer(encoded.readableBytes() / 2);
+        try {
+            final int uncompressedSize = encoded.readableBytes();
+            encoder.bridge$compressShared(encoded, out);
+            // Kept on the heap, as the packet may be referenced for a while
+            return new Frame(ByteBufUtil.getBytes(out), uncompressedSize, encoder.bridge$getThreshold());
+        } finally {
+            encoded.release();
+            out.release();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.ScheduledFuture;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.ProtocolType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.network.NetworkManagerAccessor;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consolidates the flushes of a player connection. While the connection is
+ * in the play phase, flushing only marks it as pending, the written packets
+ * are flushed together by {@link #flushPending()} at the end of the server
+ * tick or once the maximum delay has passed, whichever comes first.
+ *
+ * <p>The handler sits closest to the socket in the pipeline, so the bytes it
+ * counts are the compressed and encrypted bytes that leave the server.</p>
+ */
+public final class TickFlushHandler extends ChannelOutboundHandlerAdapter {
+
+    public static final String NAME = "sponge_flush";
+
+    private static final Set<TickFlushHandler> PENDING = ConcurrentHashMap.newKeySet();
+
+    private static final LongAdder FLUSHES_REQUESTED = new LongAdder();
+    private static final LongAdder FLUSHES = new LongAdder();
+    private static final LongAdder BYTES_FLUSHED = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("network.flushes.requested", TickFlushHandler.FLUSHES_REQUESTED::sum);
+        RuntimeMetrics.register("network.flushes.sent", TickFlushHandler.FLUSHES::sum);
+        RuntimeMetrics.register("network.flushes.saved", () -> TickFlushHandler.FLUSHES_REQUESTED.sum() - TickFlushHandler.FLUSHES.sum());
+        RuntimeMetrics.register("network.flushes.bytes", TickFlushHandler.BYTES_FLUSHED::sum);
+    }
+
+    /**
+     * Flushes every connection with a pending flush.
+     */
+    public static void flushPending() {
+        final Iterator<TickFlushHandler> iterator = TickFlushHandler.PENDING.iterator();
+        while (iterator.hasNext()) {
+            final TickFlushHandler handler = iterator.next();
+            iterator.remove();
+            final @Nullable ChannelHandlerContext ctx = handler.ctx;
+            if (ctx != null) {
+                ctx.executor().execute(handler::flushIfPending);
+            }
+        }
+    }
+
+    /**
+     * Gets the flush handler of the connection, if it has one.
+     *
+     * @param connection The connection
+     * @return The flush handler
+     */
+    public static @Nullable TickFlushHandler of(final NetworkManager connection) {
+        final @Nullable Channel channel = ((NetworkManagerAccessor) connection).accessor$channel();
+        return channel == null ? null : (TickFlushHandler) channel.pipeline().get(TickFlushHandler.NAME);
+    }
+
+    private final long maxDelayNanos;
+
+    private volatile @Nullable ChannelHandlerContext ctx;
+    private @Nullable ScheduledFuture<?> timer;
+    private boolean flushPending;
+    private long pendingBytes;
+
+    // Only written on the event loop
+    private volatile long flushesRequested;
+    private volatile long flushes;
+    private volatile long bytesFlushed;
+
+    public TickFlushHandler(final long maxDelay, final TimeUnit unit) {
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+    }
+
+    /**
+     * Gets the number of times a flush was requested on this connection.
+     *
+     * @return The requested flushes
+     */
+    public long getFlushesRequested() {
+        return this.flushesRequested;
+    }
+
+    /**
+     * Gets the number of times this connection was actually flushed.
+     *
+     * @return The flushes
+     */
+    public long getFlushes() {
+        return this.flushes;
+    }
+
+    /**
+     * Gets the number of bytes flushed to this connection.
+     *
+     * @return The flushed bytes
+     */
+    public long getBytesFlushed() {
+        return this.bytesFlushed;
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        this.cancelTimer();
+        TickFlushHandler.PENDING.remove(this);
+        this.ctx = null;
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (msg instanceof ByteBuf) {
+            this.pendingBytes += ((ByteBuf) msg).readableBytes();
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(final ChannelHandlerContext ctx) {
+        this.flushesRequested++;
+        TickFlushHandler.FLUSHES_REQUESTED.increment();
+        if (ctx.channel().attr(NetworkManager.ATTRIBUTE_PROTOCOL).get() != ProtocolType.PLAY) {
+            this.flushNow();
+            return;
+        }
+        if (!this.flushPending) {
+            this.flushPending = true;
+            TickFlushHandler.PENDING.add(this);
+            this.timer = ctx.executor().schedule(this::flushIfPending, this.maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+        // Packets sent right before disconnecting, like the disconnect reason, must not be dropped
+        this.flushIfPending();
+        ctx.close(promise);
+    }
+
+    private void flushIfPending() {
+        if (this.flushPending) {
+            this.flushNow();
+        }
+    }
+
+    private void flushNow() {
+        final @Nullable ChannelHandlerContext ctx = this.ctx;
+        if (ctx == null) {
+            return;
+        }
+        this.cancelTimer();
+        this.flushPending = false;
+        this.flushes++;
+        this.bytesFlushed += this.pendingBytes;
+        TickFlushHandler.FLUSHES.increment();
+        TickFlushHandler.BYTES_FLUSHED.add(this.pendingBytes);
+        this.pendingBytes = 0;
+        ctx.flush();
+    }
+
+    private void cancelTimer() {
+        final @Nullable ScheduledFuture<?> timer = this.timer;
+        if (timer != null) {
+            this.timer = null;
+            timer.cancel(false);
+        }
+    }
+}
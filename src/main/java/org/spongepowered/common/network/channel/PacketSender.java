@@ -24,23 +24,46 @@
  */
 package org.spongepowered.common.network.channel;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.util.concurrent.ThreadTaskExecutor;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionSide;
+import org.spongepowered.api.network.channel.ChannelBuf;
+import org.spongepowered.api.network.channel.ChannelIOException;
+import org.spongepowered.common.accessor.network.NetworkManagerAccessor;
 import org.spongepowered.common.bridge.network.NetworkManagerHolderBridge;
+import org.spongepowered.common.network.BatchedPacketWriter;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class PacketSender {
 
+    private static final LongAdder PAYLOADS_ENCODED = new LongAdder();
+    private static final LongAdder PAYLOADS_SHARED = new LongAdder();
+    private static final LongAdder PAYLOADS_COPIED = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("channel.payloads.encoded", PacketSender.PAYLOADS_ENCODED::sum);
+        RuntimeMetrics.register("channel.payloads.shared", PacketSender.PAYLOADS_SHARED::sum);
+        RuntimeMetrics.register("channel.payloads.copied", PacketSender.PAYLOADS_COPIED::sum);
+    }
+
     public static void sendTo(final EngineConnection connection, final IPacket<?> packet) {
         PacketSender.sendTo(connection, packet, (Consumer) null);
     }
@@ -48,31 +71,130 @@ public static void sendTo(final EngineConnection connection, final IPacket<?> pa
     public static void sendTo(final EngineConnection connection, final IPacket<?> packet,
             final @Nullable Consumer<Future<? super Void>> listener) {
         final NetworkManager networkManager = ((NetworkManagerHolderBridge) connection).bridge$getConnection();
-        GenericFutureListener<? extends Future<? super Void>> asyncListener = null;
-        if (listener != null) {
-            final EngineConnectionSide<?> side = connection.getSide();
-            // Complete the netty callback on the sync thread
-            asyncListener = future -> {
-                final ThreadTaskExecutor<?> executor;
-                if (side == EngineConnectionSide.CLIENT) {
-                    executor = (ThreadTaskExecutor<?>) Sponge.getClient();
-                } else {
-                    executor = (ThreadTaskExecutor<?>) Sponge.getServer();
-                }
-                executor.execute(() -> listener.accept(future));
-            };
-        }
+        final GenericFutureListener<? extends Future<? super Void>> asyncListener =
+                listener == null ? null : PacketSender.syncListener(connection.getSide(), listener);
         networkManager.send(packet, asyncListener);
     }
 
     public static void sendTo(final EngineConnection connection, final IPacket<?> packet, final CompletableFuture<Void> future) {
-        PacketSender.sendTo(connection, packet, sendFuture -> {
+        PacketSender.sendTo(connection, packet, PacketSender.completing(future));
+    }
+
+    /**
+     * Sends a play payload to the connection, see
+     * {@link #sendPlayPayloadTo(Iterable, ResourceKey, ChannelBuf, BiConsumer)}.
+     *
+     * @param connection The connection
+     * @param channel The channel key
+     * @param payload The payload, which will be released
+     * @param future The future to complete once the payload was sent
+     */
+    public static void sendPlayPayloadTo(final EngineConnection connection, final ResourceKey channel,
+            final ChannelBuf payload, final CompletableFuture<Void> future) {
+        PacketSender.sendPlayPayloadTo(connection, channel, payload, PacketSender.completing(future));
+    }
+
+    /**
+     * Sends a play payload to the connection, see
+     * {@link #sendPlayPayloadTo(Iterable, ResourceKey, ChannelBuf, BiConsumer)}.
+     *
+     * @param connection The connection
+     * @param channel The channel key
+     * @param payload The payload, which will be released
+     * @param listener The listener to notify on the main thread once the payload was sent
+     */
+    public static void sendPlayPayloadTo(final EngineConnection connection, final ResourceKey channel,
+            final ChannelBuf payload, final @Nullable Consumer<Future<? super Void>> listener) {
+        PacketSender.sendPlayPayloadTo(Collections.singleton(connection), channel, payload,
+                listener == null ? null : (target, sendFuture) -> listener.accept(sendFuture));
+    }
+
+    /**
+     * Sends a play payload to all given connections. The payload packet is
+     * encoded only once into a pooled buffer and every server side connection
+     * accepting encoded play packets receives a retained duplicate of it,
+     * which only passes through the compression and framing of that
+     * connection. Any other, like the integrated server's connection to its
+     * host, or one with packets still queued, is sent a copy of the payload
+     * through the regular pipeline.
+     *
+     * <p>The payload is owned by this method and released once it was
+     * encoded.</p>
+     *
+     * @param connections The connections
+     * @param channel The channel key
+     * @param payload The payload, which will be released
+     * @param listener The listener to notify on the main thread once the payload was sent to a connection
+     * @throws ChannelIOException If the payload packet couldn't be encoded
+     */
+    public static void sendPlayPayloadTo(final Iterable<? extends EngineConnection> connections, final ResourceKey channel,
+            final ChannelBuf payload, final @Nullable BiConsumer<EngineConnection, Future<? super Void>> listener) {
+        final SharedPayload shared = new SharedPayload(() -> PacketSender.encodePlayPayload(channel, payload));
+        try {
+            for (final EngineConnection connection : connections) {
+                final @Nullable Consumer<Future<? super Void>> connectionListener =
+                        listener == null ? null : future -> listener.accept(connection, future);
+                final @Nullable Channel nettyChannel = PacketSender.sharedPayloadChannel(connection);
+                if (nettyChannel != null && shared.writeTo(nettyChannel,
+                        connectionListener == null ? null : PacketSender.syncListener(connection.getSide(), connectionListener))) {
+                    PacketSender.PAYLOADS_SHARED.increment();
+                    continue;
+                }
+                final ChannelBuf copy = ChannelBuffers.wrap(Unpooled.copiedBuffer((ByteBuf) payload));
+                PacketSender.sendTo(connection, PacketUtil.createPlayPayload(channel, copy, connection.getSide()), connectionListener);
+                PacketSender.PAYLOADS_COPIED.increment();
+            }
+        } finally {
+            shared.release();
+            ChannelBuffers.release(payload);
+        }
+    }
+
+    private static @Nullable Channel sharedPayloadChannel(final EngineConnection connection) {
+        if (connection.getSide() != EngineConnectionSide.SERVER) {
+            return null;
+        }
+        final NetworkManager networkManager = ((NetworkManagerHolderBridge) connection).bridge$getConnection();
+        // Packets which were queued before the connection became writable must leave first
+        if (((NetworkManagerAccessor) networkManager).accessor$queue().isEmpty()) {
+            return ((NetworkManagerAccessor) networkManager).accessor$channel();
+        }
+        return null;
+    }
+
+    private static ByteBuf encodePlayPayload(final ResourceKey channel, final ChannelBuf payload) {
+        final ByteBuf encoded;
+        try {
+            encoded = BatchedPacketWriter.encode(PacketUtil.createPlayPayload(channel, payload, EngineConnectionSide.SERVER));
+        } catch (final IOException e) {
+            throw new ChannelIOException("Failed to encode the payload of channel " + channel, e);
+        }
+        PacketSender.PAYLOADS_ENCODED.increment();
+        return encoded;
+    }
+
+    private static GenericFutureListener<Future<? super Void>> syncListener(final EngineConnectionSide<?> side,
+            final Consumer<Future<? super Void>> listener) {
+        // Complete the netty callback on the sync thread
+        return future -> {
+            final ThreadTaskExecutor<?> executor;
+            if (side == EngineConnectionSide.CLIENT) {
+                executor = (ThreadTaskExecutor<?>) Sponge.getClient();
+            } else {
+                executor = (ThreadTaskExecutor<?>) Sponge.getServer();
+            }
+            executor.execute(() -> listener.accept(future));
+        };
+    }
+
+    private static Consumer<Future<? super Void>> completing(final CompletableFuture<Void> future) {
+        return sendFuture -> {
             if (sendFuture.isSuccess()) {
                 future.complete(null);
             } else {
                 future.completeExceptionally(sendFuture.cause());
             }
-        });
+        };
     }
 
     private PacketSender() {
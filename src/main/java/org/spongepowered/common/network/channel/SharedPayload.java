@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.network.BatchedPacketWriter;
+
+import java.util.function.Supplier;
+
+/**
+ * An encoded payload packet shared by every channel it is written to. The
+ * payload is encoded once, on the first write, and each channel is written
+ * a retained duplicate of it, so the channels only share the memory and not
+ * the reader index.
+ */
+final class SharedPayload {
+
+    private final Supplier<ByteBuf> encoder;
+    private @Nullable ByteBuf encoded;
+
+    /**
+     * Creates a new shared payload.
+     *
+     * @param encoder Encodes the payload packet, the returned buffer is owned by the shared payload
+     */
+    SharedPayload(final Supplier<ByteBuf> encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * Writes and flushes the payload to the channel, encoding it if this is
+     * the first write. The channel releases its duplicate once it was
+     * written. Nothing is written to channels which don't accept encoded
+     * play packets, see {@link BatchedPacketWriter#acceptsEncoded(Channel)}.
+     *
+     * @param channel The channel
+     * @param listener The listener to notify once the payload was written
+     * @return Whether the payload was written to the channel
+     */
+    boolean writeTo(final Channel channel, final @Nullable GenericFutureListener<? extends Future<? super Void>> listener) {
+        if (!BatchedPacketWriter.acceptsEncoded(channel)) {
+            return false;
+        }
+        if (this.encoded == null) {
+            this.encoded = this.encoder.get();
+        }
+        final ChannelPromise promise;
+        if (listener == null) {
+            promise = channel.voidPromise();
+        } else {
+            promise = channel.newPromise();
+            promise.addListener(listener);
+        }
+        channel.writeAndFlush(this.encoded.retainedDuplicate(), promise);
+        return true;
+    }
+
+    boolean isEncoded() {
+        return this.encoded != null;
+    }
+
+    /**
+     * Releases the reference to the encoded payload held by this shared
+     * payload. Channels which are still writing it keep their own reference.
+     */
+    void release() {
+        if (this.encoded != null) {
+            this.encoded.release();
+            this.encoded = null;
+        }
+    }
+}
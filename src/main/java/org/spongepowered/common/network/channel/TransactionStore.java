@@ -44,15 +44,9 @@ public final class TransactionStore {
     private final Supplier<EngineConnection> connection;
 
     private final AtomicInteger counter = new AtomicInteger();
-    private final ConcurrentMap<Integer, Entry> lookup = Caffeine.newBuilder()
-            .expireAfterAccess(15, TimeUnit.SECONDS)
-            .removalListener((RemovalListener<Integer, Entry>) (key, value, cause) -> {
-                if (cause == RemovalCause.EXPIRED && value != null) {
-                    value.getChannel().handleTransactionResponse(
-                        this.getConnection(), value.getData(), TransactionResult.failure(new TimeoutException()));
-                }
-            })
-            .build().asMap();
+    // Most connections never have a transaction in flight, the expiring
+    // map is only created once the first one is stored
+    private volatile @Nullable ConcurrentMap<Integer, Entry> lookup;
 
     public static class Entry {
 
@@ -105,7 +99,7 @@ public int nextId() {
      * @param stored The stored data
      */
     public void put(final int transactionId, final SpongeChannel channel, final Object stored) {
-        this.lookup.put(transactionId, new Entry(channel, stored));
+        this.getOrCreateLookup().put(transactionId, new Entry(channel, stored));
     }
 
     /**
@@ -116,7 +110,8 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
      * @return The stored value
      */
     public @Nullable Entry remove(final int transactionId) {
-        return this.lookup.remove(transactionId);
+        final @Nullable ConcurrentMap<Integer, Entry> lookup = this.lookup;
+        return lookup == null ? null : lookup.remove(transactionId);
     }
 
     /**
@@ -125,6 +120,29 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
      * @return Is empty
      */
     public boolean isEmpty() {
-        return this.lookup.isEmpty();
+        final @Nullable ConcurrentMap<Integer, Entry> lookup = this.lookup;
+        return lookup == null || lookup.isEmpty();
+    }
+
+    private ConcurrentMap<Integer, Entry> getOrCreateLookup() {
+        @Nullable ConcurrentMap<Integer, Entry> lookup = this.lookup;
+        if (lookup == null) {
+            synchronized (this) {
+                lookup = this.lookup;
+                if (lookup == null) {
+                    lookup = Caffeine.newBuilder()
+                            .expireAfterAccess(15, TimeUnit.SECONDS)
+                            .removalListener((RemovalListener<Integer, Entry>) (key, value, cause) -> {
+                                if (cause == RemovalCause.EXPIRED && value != null) {
+                                    value.getChannel().handleTransactionResponse(
+                                        this.getConnection(), value.getData(), TransactionResult.failure(new TimeoutException()));
+                                }
+                            })
+                            .build().asMap();
+                    this.lookup = lookup;
+                }
+            }
+        }
+        return lookup;
     }
 }
@@ -85,15 +85,13 @@ public Collection<PacketBinding<?>> getBindings() {
     }
 
     protected void encodePayload(final ChannelBuf payload, final Packet packet) {
-        final ChannelBuf packetContent = this.getRegistry().getBufferAllocator().buffer();
+        // The payload is released if the packet fails to encode, so
+        // partially written content never has to be rolled back
         try {
-            this.encodePayloadUnsafe(packetContent, packet);
-            ChannelBuffers.write(payload, packetContent);
+            this.encodePayloadUnsafe(payload, packet);
         } catch (final Throwable ex) {
             ChannelBuffers.release(payload);
             throw ex;
-        } finally {
-            ChannelBuffers.release(packetContent);
         }
     }
 
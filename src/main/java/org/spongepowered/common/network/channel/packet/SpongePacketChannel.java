@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel.packet;
 
+import io.netty.util.concurrent.Future;
 import net.minecraft.network.IPacket;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -45,8 +46,13 @@
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -105,22 +111,22 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
         final EngineConnectionSide<?> side = connection.getSide();
 
         final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
-        final Supplier<IPacket<?>> mcPacketSupplier;
+        final @Nullable Supplier<IPacket<?>> loginPacketSupplier;
 
         if (isLoginPhase) {
             if (side == EngineConnectionSide.CLIENT) {
                 payload.writeString(this.getKey().getFormatted());
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, transactionId));
                 payload.writeVarInt(binding.getOpcode());
-                mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
+                loginPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, binding.getOpcode()));
-                mcPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(this.getKey(), payload, transactionId);
+                loginPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(this.getKey(), payload, transactionId);
             }
         } else {
             payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, transactionId));
             payload.writeVarInt(binding.getOpcode());
-            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.getKey(), payload, side);
+            loginPacketSupplier = null;
         }
 
         try {
@@ -135,8 +141,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
             transactionStore.put(transactionId, this, transactionData);
         }
 
-        final IPacket<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket, sendFuture -> {
+        final Consumer<Future<? super Void>> listener = sendFuture -> {
             if (!sendFuture.isSuccess()) {
                 this.handleException(connection, sendFuture.cause(), future);
                 // Failed before it could reach the client, so complete it
@@ -147,7 +152,12 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
             } else if (sendSuccess != null) {
                 sendSuccess.run();
             }
-        });
+        };
+        if (loginPacketSupplier != null) {
+            PacketSender.sendTo(connection, loginPacketSupplier.get(), listener);
+        } else {
+            PacketSender.sendPlayPayloadTo(connection, this.getKey(), payload, listener);
+        }
     }
 
     private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo(final EngineConnection connection,
@@ -156,22 +166,22 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
         final EngineConnectionSide<?> side = connection.getSide();
 
         final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
-        final Supplier<IPacket<?>> mcPacketSupplier;
+        final @Nullable Supplier<IPacket<?>> loginPacketSupplier;
 
         if (packet == null || requestBinding instanceof SpongeFixedTransactionalPacketBinding) {
             final int type = packet == null ? SpongePacketChannel.TYPE_NO_RESPONSE : SpongePacketChannel.TYPE_RESPONSE;
             if (isLoginPhase) {
                 if (side == EngineConnectionSide.CLIENT) {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, 0));
-                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, transactionId);
+                    loginPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, transactionId);
                 } else {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, transactionId));
-                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(
+                    loginPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(
                             this.getKey(), payload, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
                 }
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, transactionId));
-                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.getKey(), payload, side);
+                loginPacketSupplier = null;
             }
         } else {
             // Dynamic opcode
@@ -179,17 +189,17 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
             if (isLoginPhase) {
                 if (side == EngineConnectionSide.CLIENT) {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, opcode));
-                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, transactionId);
+                    loginPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, transactionId);
                 } else {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, transactionId));
                     payload.writeVarInt(opcode);
-                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(
+                    loginPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(
                             this.getKey(), payload, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
                 }
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, transactionId));
                 payload.writeVarInt(opcode);
-                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.getKey(), payload, side);
+                loginPacketSupplier = null;
             }
         }
 
@@ -200,35 +210,49 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
             return;
         }
 
-        final IPacket<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket);
+        if (loginPacketSupplier != null) {
+            PacketSender.sendTo(connection, loginPacketSupplier.get());
+        } else {
+            PacketSender.sendPlayPayloadTo(connection, this.getKey(), payload, (Consumer) null);
+        }
     }
 
     private <P extends Packet> void sendNormalPacketTo(final EngineConnection connection, final P packet, final CompletableFuture<Void> future) {
         final SpongePacketBinding<P> binding =
                 (SpongePacketBinding) this.requireBinding(packet.getClass());
 
-        final boolean isLoginPhase = ConnectionUtil.isLoginPhase(connection);
-        final EngineConnectionSide<?> side = connection.getSide();
+        if (!ConnectionUtil.isLoginPhase(connection)) {
+            this.sendNormalPacketTo(Collections.singleton(connection), binding, packet, future);
+            return;
+        }
 
         final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
         final Supplier<IPacket<?>> mcPacketSupplier;
 
-        if (isLoginPhase) {
-            if (side == EngineConnectionSide.CLIENT) {
-                payload.writeString(this.getKey().getFormatted());
-                payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.getOpcode()));
-                mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
-            } else {
-                payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.getOpcode()));
-                final int transactionId = ConnectionUtil.getTransactionStore(connection).nextId();
-                mcPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(this.getKey(), payload, transactionId);
-            }
+        if (connection.getSide() == EngineConnectionSide.CLIENT) {
+            payload.writeString(this.getKey().getFormatted());
+            payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.getOpcode()));
+            mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(payload, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
         } else {
             payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.getOpcode()));
-            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.getKey(), payload, side);
+            final int transactionId = ConnectionUtil.getTransactionStore(connection).nextId();
+            mcPacketSupplier = () -> PacketUtil.createLoginPayloadRequest(this.getKey(), payload, transactionId);
+        }
+
+        try {
+            this.encodePayload(payload, packet);
+        } catch (final Throwable ex) {
+            future.completeExceptionally(ex);
+            return;
         }
 
+        PacketSender.sendTo(connection, mcPacketSupplier.get(), future);
+    }
+
+    private <P extends Packet> void sendNormalPacketTo(final Collection<? extends EngineConnection> connections,
+            final SpongePacketBinding<P> binding, final P packet, final CompletableFuture<Void> future) {
+        final ChannelBuf payload = this.getRegistry().getBufferAllocator().buffer();
+        payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.getOpcode()));
         try {
             this.encodePayload(payload, packet);
         } catch (final Throwable ex) {
@@ -236,8 +260,18 @@ private <P extends Packet> void sendNormalPacketTo(final EngineConnection connec
             return;
         }
 
-        final IPacket<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket, future);
+        final AtomicInteger remaining = new AtomicInteger(connections.size());
+        try {
+            PacketSender.sendPlayPayloadTo(connections, this.getKey(), payload, (connection, sendFuture) -> {
+                if (!sendFuture.isSuccess()) {
+                    future.completeExceptionally(sendFuture.cause());
+                } else if (remaining.decrementAndGet() == 0) {
+                    future.complete(null);
+                }
+            });
+        } catch (final Throwable ex) {
+            future.completeExceptionally(ex);
+        }
     }
 
     @Override
@@ -271,6 +305,47 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
         return future;
     }
 
+    /**
+     * Sends the packet to all the given connections. Normal packets are
+     * encoded only once for all connections in the play phase, request
+     * packets and connections in the login phase are sent individually.
+     *
+     * @param connections The connections
+     * @param packet The packet
+     * @return The future, completed once the packet was sent to all connections
+     */
+    public CompletableFuture<Void> sendTo(final Iterable<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+        if (packet instanceof RequestPacket) {
+            // Every request needs its own transaction id
+            final List<CompletableFuture<Void>> futures = new ArrayList<>();
+            connections.forEach(connection -> futures.add(this.sendTo(connection, packet)));
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        }
+        final SpongePacketBinding<Packet> binding = this.requireBinding(packet.getClass());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        final List<EngineConnection> shared = new ArrayList<>();
+        for (final EngineConnection connection : connections) {
+            if (ConnectionUtil.isLoginPhase(connection)) {
+                futures.add(this.sendTo(connection, packet));
+                continue;
+            }
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            if (this.checkSupported(connection, future)) {
+                shared.add(connection);
+            } else {
+                futures.add(future);
+            }
+        }
+        if (!shared.isEmpty()) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            this.sendNormalPacketTo(shared, binding, packet, future);
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
     private void handleResponsePacket(final EngineConnection connection, final int transactionId, final @Nullable ChannelBuf payload,
             final int dynamicOpcode) {
         final TransactionStore store = ConnectionUtil.getTransactionStore(connection);
@@ -0,0 +1,223 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.authlib.Agent;
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.GameProfileRepository;
+import com.mojang.authlib.ProfileLookupCallback;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Resolves game profiles against a {@link GameProfileRepository} on a fixed
+ * number of threads.
+ *
+ * <ul>
+ *     <li>Concurrent requests for the same name share one lookup.</li>
+ *     <li>Queued names are resolved in batches of up to the configured
+ *     batch size, rather than one lookup per name.</li>
+ *     <li>Every lookup, including those submitted through
+ *     {@link #submit(Callable)}, waits for a permit of a shared rate limit
+ *     so bulk resolution doesn't get throttled by Mojang.</li>
+ * </ul>
+ */
+public final class ProfileResolver {
+
+    private static final LongAdder REQUESTED = new LongAdder();
+    private static final LongAdder COALESCED = new LongAdder();
+    private static final LongAdder LOOKUPS = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("profile-lookup.names-requested", ProfileResolver.REQUESTED::sum);
+        RuntimeMetrics.register("profile-lookup.names-coalesced", ProfileResolver.COALESCED::sum);
+        RuntimeMetrics.register("profile-lookup.lookups", ProfileResolver.LOOKUPS::sum);
+    }
+
+    private final Supplier<GameProfileRepository> repository;
+    private final ExecutorService executor;
+    private final RateLimiter rateLimiter;
+    private final int batchSize;
+    private final Map<String, CompletableFuture<@Nullable GameProfile>> pending = new ConcurrentHashMap<>();
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a resolver.
+     *
+     * @param repository Supplies the repository names are resolved against
+     * @param threads The number of lookup threads
+     * @param batchSize The maximum number of names per lookup
+     * @param requestsPerMinute The maximum number of lookups per minute
+     */
+    public ProfileResolver(final Supplier<GameProfileRepository> repository, final int threads, final int batchSize,
+            final int requestsPerMinute) {
+        this.repository = repository;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("Sponge - Profile Lookup Thread #%d").build());
+        this.rateLimiter = RateLimiter.create(Math.max(1, requestsPerMinute) / 60.0);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Runs a lookup on the lookup threads once the rate limit allows it.
+     *
+     * @param lookup The lookup
+     * @param <T> The type of the result
+     * @return The result
+     */
+    public <T> CompletableFuture<T> submit(final Callable<T> lookup) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        this.executor.execute(() -> {
+            this.rateLimiter.acquire();
+            ProfileResolver.LOOKUPS.increment();
+            try {
+                result.complete(lookup.call());
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Resolves the profile of a name.
+     *
+     * @param name The name
+     * @return The profile, completed with null if no profile has the name
+     */
+    public CompletableFuture<@Nullable GameProfile> resolve(final String name) {
+        final CompletableFuture<@Nullable GameProfile> result = this.enqueue(name);
+        this.executor.execute(this::drain);
+        return result;
+    }
+
+    /**
+     * Resolves the profiles of many names.
+     *
+     * @param names The names
+     * @return The profiles by the requested names, names without a profile
+     *     are left out
+     */
+    public CompletableFuture<Map<String, GameProfile>> resolve(final Iterable<String> names) {
+        final Map<String, CompletableFuture<@Nullable GameProfile>> futures = new HashMap<>();
+        for (final String name : names) {
+            futures.put(name, this.enqueue(name));
+        }
+        for (int i = 0; i < futures.size(); i += this.batchSize) {
+            this.executor.execute(this::drain);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            final Map<String, GameProfile> profiles = new HashMap<>();
+            futures.forEach((name, future) -> {
+                final @Nullable GameProfile profile = future.join();
+                if (profile != null) {
+                    profiles.put(name, profile);
+                }
+            });
+            return profiles;
+        });
+    }
+
+    private CompletableFuture<@Nullable GameProfile> enqueue(final String name) {
+        ProfileResolver.REQUESTED.increment();
+        final String key = name.toLowerCase(Locale.ROOT);
+        final CompletableFuture<@Nullable GameProfile> created = new CompletableFuture<>();
+        final @Nullable CompletableFuture<@Nullable GameProfile> existing = this.pending.putIfAbsent(key, created);
+        if (existing != null) {
+            ProfileResolver.COALESCED.increment();
+            return existing;
+        }
+        this.queue.add(key);
+        return created;
+    }
+
+    private void drain() {
+        final List<String> batch = new ArrayList<>(this.batchSize);
+        String name;
+        while (batch.size() < this.batchSize && (name = this.queue.poll()) != null) {
+            batch.add(name);
+        }
+        if (batch.isEmpty()) {
+            // Another drain picked up the names queued along with this one
+            return;
+        }
+        this.rateLimiter.acquire();
+        ProfileResolver.LOOKUPS.increment();
+        try {
+            this.repository.get().findProfilesByNames(batch.toArray(new String[0]), Agent.MINECRAFT, new ProfileLookupCallback() {
+                @Override
+                public void onProfileLookupSucceeded(final GameProfile profile) {
+                    ProfileResolver.this.complete(profile.getName(), profile, null);
+                }
+
+                @Override
+                public void onProfileLookupFailed(final GameProfile profile, final Exception exception) {
+                    ProfileResolver.this.complete(profile.getName(), null,
+                            exception instanceof com.mojang.authlib.yggdrasil.ProfileNotFoundException ? null : exception);
+                }
+            });
+        } catch (final RuntimeException e) {
+            for (final String key : batch) {
+                this.complete(key, null, e);
+            }
+        }
+        // Names the repository didn't report back on don't exist
+        for (final String key : batch) {
+            this.complete(key, null, null);
+        }
+    }
+
+    private void complete(final @Nullable String name, final @Nullable GameProfile profile, final @Nullable Exception exception) {
+        if (name == null) {
+            return;
+        }
+        final @Nullable CompletableFuture<@Nullable GameProfile> future = this.pending.remove(name.toLowerCase(Locale.ROOT));
+        if (future == null) {
+            return;
+        }
+        if (exception != null) {
+            future.completeExceptionally(exception);
+        } else {
+            future.complete(profile);
+        }
+    }
+}
@@ -24,7 +24,7 @@
  */
 package org.spongepowered.common.profile;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.authlib.GameProfileRepository;
 import net.minecraft.server.MinecraftServer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Server;
@@ -32,7 +32,9 @@
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.GameProfileManager;
 import org.spongepowered.api.profile.GameProfileProvider;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
+import org.spongepowered.common.applaunch.config.common.ProfileLookupCategory;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.server.management.PlayerProfileCacheBridge;
 import org.spongepowered.common.bridge.server.management.PlayerProfileCache_ProfileEntryBridge;
@@ -47,22 +49,23 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 public final class SpongeGameProfileManager implements GameProfileManager {
 
     private final UsernameCache usernameCache;
     private final PlayerProfileCacheBridge cache;
-    private final UncachedGameProfileProvider uncached = new UncachedGameProfileProvider();
-    private final ExecutorService gameLookupExecutorService;
+    private final UncachedGameProfileProvider uncached;
 
     public SpongeGameProfileManager(final Server server) {
+        this(server, () -> ((MinecraftServer) server).getProfileRepository());
+    }
+
+    public SpongeGameProfileManager(final Server server, final Supplier<GameProfileRepository> repository) {
         this.usernameCache = ((SpongeServer) server).getUsernameCache();
         this.cache = (PlayerProfileCacheBridge) ((MinecraftServer) server).getProfileCache();
-        this.gameLookupExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
-                .setNameFormat("Sponge - Async User Lookup Thread").build());
+        final ProfileLookupCategory config = SpongeConfigs.getCommon().get().profileLookup;
+        this.uncached = new UncachedGameProfileProvider(new ProfileResolver(repository, config.threads, config.batchSize, config.requestsPerMinute));
     }
 
     @Override
@@ -165,17 +168,10 @@ public CompletableFuture<GameProfile> getProfile(final UUID uniqueId, final bool
 
     public void lookupUserAsync(final UUID uniqueId) {
         Objects.requireNonNull(uniqueId, "uniqueId");
-        this.gameLookupExecutorService.execute(() -> {
-            try {
-                this.getBasicProfile(uniqueId).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                e.printStackTrace();
-            }
-
-            try {
-                Thread.sleep(SpongeConfigs.getCommon().get().world.gameProfileQueryTaskInterval * 1000L);
-            } catch (final InterruptedException e) {
-                e.printStackTrace();
+        // Lookups are rate limited by the profile resolver
+        this.getBasicProfile(uniqueId).whenComplete((profile, ex) -> {
+            if (ex != null) {
+                SpongeCommon.getLogger().debug("Failed to look up the profile of {}", uniqueId, ex);
             }
         });
     }
@@ -28,13 +28,10 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.mojang.authlib.Agent;
-import com.mojang.authlib.ProfileLookupCallback;
 import com.mojang.util.UUIDTypeAdapter;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.core.util.Throwables;
@@ -53,7 +50,6 @@
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -65,12 +61,14 @@ public class UncachedGameProfileProvider implements GameProfileProvider {
 
     private static final Gson GSON = new Gson();
 
-    private <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return SpongeCommon.getAsyncScheduler().submit(callable);
+    private final ProfileResolver resolver;
+
+    public UncachedGameProfileProvider(final ProfileResolver resolver) {
+        this.resolver = resolver;
     }
 
-    private void submit(final Runnable runnable) {
-        SpongeCommon.getAsyncScheduler().execute(runnable);
+    private <T> CompletableFuture<T> submit(final Callable<T> callable) {
+        return this.resolver.submit(callable);
     }
 
     /*
@@ -174,38 +172,34 @@ public CompletableFuture<GameProfile> getBasicProfile(final String name, final @
                 return profile;
             });
         }
-        final CompletableFuture<GameProfile> result = new CompletableFuture<>();
-        this.submit(() -> SpongeCommon.getServer().getProfileRepository().findProfilesByNames(new String[] { name }, Agent.MINECRAFT,
-                new SingleProfileLookupCallback(result)));
-        return result;
+        return this.resolver.resolve(name).thenApply(profile -> {
+            if (profile == null) {
+                throw new ProfileNotFoundException(name);
+            }
+            return SpongeGameProfile.of(profile);
+        });
     }
 
     @Override
     public CompletableFuture<Map<String, GameProfile>> getBasicProfiles(final Iterable<String> names, final @Nullable Instant time) {
         Objects.requireNonNull(names, "names");
-        final CompletableFuture<Map<String, GameProfile>> result = new CompletableFuture<>();
         if (time != null) {
-            this.submit(() -> {
+            return this.submit(() -> {
                 final Map<String, GameProfile> resultMap = new HashMap<>();
                 for (final String name : names) {
-                    try {
-                        final GameProfile profile = this.requestBasicProfileAt(name, time);
-                        if (profile != null) {
-                            resultMap.put(name, profile);
-                        }
-                    } catch (final Exception e) {
-                        result.completeExceptionally(e);
-                        return;
+                    final GameProfile profile = this.requestBasicProfileAt(name, time);
+                    if (profile != null) {
+                        resultMap.put(name, profile);
                     }
                 }
-                result.complete(resultMap);
+                return resultMap;
             });
         }
-        final List<String> nameList = Lists.newArrayList(names);
-        final String[] namesArray = nameList.toArray(new String[0]);
-        this.submit(() -> SpongeCommon.getServer().getProfileRepository().findProfilesByNames(namesArray, Agent.MINECRAFT,
-                new MapProfileLookupCallback(result, nameList)));
-        return result;
+        return this.resolver.resolve(names).thenApply(profiles -> {
+            final Map<String, GameProfile> resultMap = new HashMap<>();
+            profiles.forEach((name, profile) -> resultMap.put(name, SpongeGameProfile.of(profile)));
+            return resultMap;
+        });
     }
 
     private @Nullable GameProfile requestBasicProfileAt(final String name, final Instant time) throws Exception {
@@ -268,72 +262,4 @@ private GameProfile parseGameProfile(final JsonObject json) {
 
         return new SpongeGameProfile(uniqueId, name, properties.build());
     }
-
-    private static final class SingleProfileLookupCallback implements ProfileLookupCallback {
-
-        private final CompletableFuture<GameProfile> result;
-
-        private SingleProfileLookupCallback(final CompletableFuture<GameProfile> result) {
-            this.result = result;
-        }
-
-        @Override
-        public void onProfileLookupSucceeded(final com.mojang.authlib.GameProfile profile) {
-            this.result.complete(SpongeGameProfile.of(profile));
-        }
-
-        @Override
-        public void onProfileLookupFailed(final com.mojang.authlib.GameProfile profile, final Exception exception) {
-            if (exception instanceof com.mojang.authlib.yggdrasil.ProfileNotFoundException) {
-                this.result.completeExceptionally(new ProfileNotFoundException(profile.getName(), exception.getCause()));
-            } else {
-                this.result.completeExceptionally(exception);
-            }
-        }
-    }
-
-    private static final class MapProfileLookupCallback implements ProfileLookupCallback {
-
-        private final CompletableFuture<Map<String, GameProfile>> result;
-        private final List<String> nameQueue;
-
-        private Map<String, GameProfile> resultMap = new HashMap<>();
-
-        private MapProfileLookupCallback(final CompletableFuture<Map<String, GameProfile>> result, final List<String> nameQueue) {
-            this.result = result;
-            this.nameQueue = nameQueue;
-        }
-
-        public void complete() {
-            if (this.resultMap != null) {
-                this.result.complete(this.resultMap);
-            }
-        }
-
-        @Override
-        public void onProfileLookupSucceeded(final com.mojang.authlib.GameProfile profile) {
-            String originalName = null;
-            while (originalName == null && !this.nameQueue.isEmpty()) {
-                final String name = this.nameQueue.remove(0);
-                if (name.equalsIgnoreCase(profile.getName())) {
-                    originalName = name;
-                }
-            }
-            if (originalName == null) {
-                throw new IllegalStateException();
-            }
-            if (this.resultMap != null) {
-                this.resultMap.put(originalName, SpongeGameProfile.of(profile));
-            }
-        }
-
-        @Override
-        public void onProfileLookupFailed(final com.mojang.authlib.GameProfile profile, final Exception exception) {
-            if (exception instanceof com.mojang.authlib.yggdrasil.ProfileNotFoundException) {
-                return;
-            }
-            this.resultMap = null;
-            this.result.completeExceptionally(exception);
-        }
-    }
 }
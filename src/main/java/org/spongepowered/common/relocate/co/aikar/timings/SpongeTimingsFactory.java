@@ -55,6 +55,8 @@ public TimingsFactory init() {
         final TimingsCategory category = SpongeConfigs.getCommon().get().timings;
         TimingsManager.privacy = category.serverNamePrivacy;
         TimingsManager.hiddenConfigs.addAll(category.hiddenConfigEntries);
+        TimingsManager.localExport = category.localExport;
+        TimingsManager.localExportDirectory = category.localExportDirectory;
         this.setVerboseTimingsEnabled(category.verbose);
         this.setTimingsEnabled(this.moduleEnabled && category.enabled);
         this.setHistoryInterval(category.historyInterval);
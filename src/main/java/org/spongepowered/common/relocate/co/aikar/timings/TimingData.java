@@ -24,9 +24,9 @@
  */
 package org.spongepowered.common.relocate.co.aikar.timings;
 
-import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
-import com.google.gson.JsonArray;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 /**
@@ -93,17 +93,24 @@ protected TimingData clone() {
         return new TimingData(this);
     }
 
-    public JsonArray export() {
-        JsonArray array = JSONUtil.arrayOf(
-                this.id,
-                this.count,
-                this.totalTime);
+    public void export(JsonWriter writer) throws IOException {
+        writer.beginArray();
+        this.exportValues(writer);
+        writer.endArray();
+    }
+
+    /**
+     * Writes the values of this data without wrapping them in an array, so
+     * that callers may append further elements to the same array.
+     */
+    void exportValues(JsonWriter writer) throws IOException {
+        writer.value(this.id)
+                .value(this.count)
+                .value(this.totalTime);
         if (this.lagCount > 0) {
-            array.addAll(JSONUtil.arrayOf(
-                    this.lagCount,
-                    this.lagTotalTime));
+            writer.value(this.lagCount)
+                    .value(this.lagTotalTime);
         }
-        return array;
     }
 
     boolean hasData() {
@@ -24,8 +24,9 @@
  */
 package org.spongepowered.common.relocate.co.aikar.timings;
 
-import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
-import com.google.gson.JsonArray;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 class TimingHistoryEntry {
 
@@ -41,11 +42,16 @@ class TimingHistoryEntry {
         }
     }
 
-    JsonArray export() {
-        JsonArray result = this.data.export();
+    void export(JsonWriter writer) throws IOException {
+        writer.beginArray();
+        this.data.exportValues(writer);
         if (this.children.length > 0) {
-            result.add(JSONUtil.mapArray(this.children, TimingData::export));
+            writer.beginArray();
+            for (TimingData child : this.children) {
+                child.export(writer);
+            }
+            writer.endArray();
         }
-        return result;
+        writer.endArray();
     }
 }
@@ -32,6 +32,7 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
@@ -51,15 +52,23 @@
 import org.spongepowered.common.relocate.co.aikar.util.JSONUtil.JsonObjectBuilder;
 import org.spongepowered.configurate.ConfigurationNode;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -70,6 +79,8 @@ class TimingsExport extends Thread {
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final String VIEWER_FILE = "timings-viewer.html";
 
     private final TimingsReportListener listeners;
     private final JsonObject out;
@@ -78,7 +89,7 @@ class TimingsExport extends Thread {
     final static List<Audience> requestingReport = Lists.newArrayList();
 
     TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+        super("Timings export thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
@@ -291,8 +302,70 @@ public synchronized void start() {
 
     @Override
     public void run() {
-        this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
+        if (TimingsManager.localExport) {
+            this.exportLocal();
+        } else {
+            this.exportRemote();
+        }
+    }
+
+    /**
+     * Streams the report to the given output. Each history frame is written
+     * directly instead of first being converted to a JSON tree, so exporting
+     * adds no copy of the report on top of the frames the timings history
+     * already retains.
+     */
+    private void writeReport(OutputStream output) throws IOException {
+        final JsonWriter writer = new JsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.setLenient(true);
+        writer.beginObject();
+        for (Entry<String, JsonElement> entry : this.out.entrySet()) {
+            writer.name(entry.getKey());
+            JSONUtil.write(writer, entry.getValue());
+        }
+        writer.name("data").beginArray();
+        for (TimingHistory timingHistory : this.history) {
+            timingHistory.export(writer);
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.flush();
+    }
+
+    private void exportLocal() {
+        String reportLocation = null;
+        try {
+            final Path directory = SpongeCommon.getGameDirectory().resolve(TimingsManager.localExportDirectory);
+            Files.createDirectories(directory);
+            final String fileName = "timings-" + TimingsExport.FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".json.gz";
+            final Path file = directory.resolve(fileName);
+            final Path tempFile = directory.resolve(fileName + ".tmp");
+            try (OutputStream output = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                this.writeReport(output);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            final Path viewer = directory.resolve(TimingsExport.VIEWER_FILE);
+            try (InputStream is = TimingsExport.class.getResourceAsStream(TimingsExport.VIEWER_FILE)) {
+                if (is != null) {
+                    Files.copy(is, viewer, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
 
+            reportLocation = file.toAbsolutePath().toString();
+            this.listeners.send(Component.text().content("Timings Report written to ").color(NamedTextColor.GREEN)
+                    .append(Component.text(reportLocation, NamedTextColor.YELLOW))
+                    .append(Component.text(". Open " + TimingsExport.VIEWER_FILE + " in the same directory to view it."))
+                    .build());
+        } catch (IOException ex) {
+            this.listeners.send(Component.text("Error writing timings, check your logs for more information", NamedTextColor.RED));
+            SpongeCommon.getLogger().fatal("Could not write timings", ex);
+        } finally {
+            this.listeners.done(reportLocation);
+        }
+    }
+
+    private void exportRemote() {
         String response = null;
         String timingsURL = null;
         try {
@@ -311,15 +384,14 @@ public void run() {
             con.setRequestMethod("POST");
             con.setInstanceFollowRedirects(false);
 
-            OutputStream request = new GZIPOutputStream(con.getOutputStream()) {
+            try (OutputStream request = new GZIPOutputStream(con.getOutputStream()) {
 
                 {
                     this.def.setLevel(7);
                 }
-            };
-
-            request.write(JSONUtil.toString(this.out).getBytes("UTF-8"));
-            request.close();
+            }) {
+                this.writeReport(request);
+            }
 
             response = this.getResponse(con);
 
@@ -31,7 +31,9 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -121,6 +123,10 @@ public static String toString(JsonElement element) {
         return JSONUtil.gson.toJson(element);
     }
 
+    public static void write(JsonWriter writer, JsonElement element) throws IOException {
+        JSONUtil.gson.toJson(element, writer);
+    }
+
     public static JsonElement toJsonElement(Object value) {
         return JSONUtil.gson.toJsonTree(value);
     }
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import net.minecraft.network.IPacket;
+import net.minecraft.network.play.server.SUpdateScorePacket;
+import net.minecraft.scoreboard.Score;
+import net.minecraft.scoreboard.ServerScoreboard;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Collects the score changes of a scoreboard over a tick and sends only
+ * those that differ from what its viewers last received.
+ *
+ * <p>Every viewer of a scoreboard receives the same packets, so the values
+ * last sent are tracked per scoreboard, for each objective whose state on
+ * the client is known. Setting a score back to the value the client already
+ * has, or removing and re-adding a line within a tick, results in no packet
+ * at all.</p>
+ *
+ * <p>Pending changes are flushed at the end of the tick, and before any
+ * other scoreboard packet is sent so the client always sees the objectives
+ * and scores in the order they were changed in.</p>
+ */
+public final class ScoreUpdateBuffer {
+
+    // Scoreboards are only modified on the main thread
+    private static final Set<ScoreUpdateBuffer> DIRTY = new LinkedHashSet<>();
+    private static final LongAdder SENT = new LongAdder();
+    private static final LongAdder AVOIDED = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("scoreboard.score-packets.sent", ScoreUpdateBuffer.SENT::sum);
+        RuntimeMetrics.register("scoreboard.score-packets.avoided", ScoreUpdateBuffer.AVOIDED::sum);
+    }
+
+    private final Consumer<IPacket<?>> sender;
+    private final IntSupplier viewers;
+    // objective -> owner -> score the viewers have
+    private final Map<String, Map<String, Integer>> sent = new HashMap<>();
+    // objective -> owner -> new score, null if removed
+    private final Map<String, Map<String, @Nullable Integer>> pending = new LinkedHashMap<>();
+
+    /**
+     * Creates a buffer.
+     *
+     * @param sender Sends a packet to every viewer
+     * @param viewers Gets the number of viewers
+     */
+    public ScoreUpdateBuffer(final Consumer<IPacket<?>> sender, final IntSupplier viewers) {
+        this.sender = sender;
+        this.viewers = viewers;
+    }
+
+    /**
+     * Flushes the pending changes of all scoreboards.
+     */
+    public static void flushAll() {
+        final Iterator<ScoreUpdateBuffer> iterator = ScoreUpdateBuffer.DIRTY.iterator();
+        while (iterator.hasNext()) {
+            final ScoreUpdateBuffer buffer = iterator.next();
+            iterator.remove();
+            buffer.flush();
+        }
+    }
+
+    public void change(final String objective, final String owner, final int score) {
+        this.pending.computeIfAbsent(objective, k -> new LinkedHashMap<>()).put(owner, score);
+        ScoreUpdateBuffer.DIRTY.add(this);
+    }
+
+    public void remove(final String objective, final String owner) {
+        this.pending.computeIfAbsent(objective, k -> new LinkedHashMap<>()).put(owner, null);
+        ScoreUpdateBuffer.DIRTY.add(this);
+    }
+
+    /**
+     * Records that the viewers now have no scores for an objective, to be
+     * called after the objective was added or removed.
+     *
+     * @param objective The objective name
+     */
+    public void clearObjective(final String objective) {
+        this.sent.put(objective, new HashMap<>());
+    }
+
+    /**
+     * Records that the viewers now have exactly the given scores for an
+     * objective, to be called after the objective was sent in full.
+     *
+     * @param objective The objective name
+     * @param scores The scores of the objective
+     */
+    public void syncObjective(final String objective, final Iterable<Score> scores) {
+        final Map<String, Integer> known = new HashMap<>();
+        for (final Score score : scores) {
+            known.put(score.getOwner(), score.getScore());
+        }
+        this.sent.put(objective, known);
+    }
+
+    /**
+     * Records that the viewers no longer have any scores of an owner, to be
+     * called after all scores of the owner were removed.
+     *
+     * @param owner The score owner
+     */
+    public void removeOwner(final String owner) {
+        for (final Map<String, Integer> scores : this.sent.values()) {
+            scores.remove(owner);
+        }
+    }
+
+    public void flush() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        final int viewers = this.viewers.getAsInt();
+        for (final Map.Entry<String, Map<String, @Nullable Integer>> objective : this.pending.entrySet()) {
+            final String objectiveName = objective.getKey();
+            for (final Map.Entry<String, @Nullable Integer> change : objective.getValue().entrySet()) {
+                final @Nullable Integer score = change.getValue();
+                final @Nullable Map<String, Integer> known = this.sent.get(objectiveName);
+                if (known == null) {
+                    // Nothing is known about what the viewers have for this objective, so there is nothing to diff against
+                    this.send(ScoreUpdateBuffer.packet(objectiveName, change.getKey(), score), viewers);
+                } else if (score == null ? known.remove(change.getKey()) != null : !score.equals(known.put(change.getKey(), score))) {
+                    this.send(ScoreUpdateBuffer.packet(objectiveName, change.getKey(), score), viewers);
+                } else {
+                    ScoreUpdateBuffer.AVOIDED.add(viewers);
+                }
+            }
+        }
+        this.pending.clear();
+    }
+
+    private static SUpdateScorePacket packet(final String objective, final String owner, final @Nullable Integer score) {
+        return score == null
+            ? new SUpdateScorePacket(ServerScoreboard.Action.REMOVE, objective, owner, 0)
+            : new SUpdateScorePacket(ServerScoreboard.Action.CHANGE, objective, owner, score);
+    }
+
+    private void send(final IPacket<?> packet, final int viewers) {
+        ScoreUpdateBuffer.SENT.add(viewers);
+        this.sender.accept(packet);
+    }
+}
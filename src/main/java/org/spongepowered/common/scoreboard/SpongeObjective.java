@@ -56,6 +56,9 @@ public final class SpongeObjective implements Objective {
     private final String name;
     private final Criterion criterion;
     private final Map<Component, Score> scores = new HashMap<>();
+    // The same scores keyed by their legacy name, which is what vanilla and the client identify them by.
+    // Strings cache their hash, so vanilla lookups avoid converting and deep hashing a component.
+    private final Map<String, SpongeScore> scoresByName = new HashMap<>();
     private final Map<net.minecraft.scoreboard.Scoreboard, ScoreObjective> objectives;
 
     private Component displayName;
@@ -122,6 +125,7 @@ public void addScore(final Score score) throws IllegalArgumentException {
         this.scores.put(score.getName(), score);
 
         final SpongeScore spongeScore = (SpongeScore) score;
+        this.scoresByName.put(spongeScore.legacyName, spongeScore);
         for (final ScoreObjective objective: this.objectives.values()) {
             this.addScoreToScoreboard(((ScoreObjectiveAccessor) objective).accessor$scoreboard(), spongeScore.getScoreFor(objective));
         }
@@ -132,6 +136,21 @@ public Optional<Score> getScore(final Component name) {
         return Optional.ofNullable(this.scores.get(name));
     }
 
+    public Optional<SpongeScore> getScore(final String legacyName) {
+        return Optional.ofNullable(this.scoresByName.get(legacyName));
+    }
+
+    public SpongeScore getOrCreateScore(final String legacyName) {
+        final SpongeScore existing = this.scoresByName.get(legacyName);
+        if (existing != null) {
+            return existing;
+        }
+
+        final SpongeScore score = new SpongeScore(SpongeAdventure.legacySection(legacyName));
+        this.addScore(score);
+        return score;
+    }
+
     @Override
     public Score getOrCreateScore(final Component name) {
         if (this.scores.containsKey(name)) {
@@ -175,6 +194,7 @@ public boolean removeScore(final Score spongeScore) {
         }
 
         this.scores.remove(spongeScore.getName());
+        this.scoresByName.remove(name);
         return true;
     }
 
@@ -204,7 +224,7 @@ private void updateDisplayName() {
     public void updateScores(final net.minecraft.scoreboard.Scoreboard scoreboard) {
         final ScoreObjective objective = this.getObjectiveFor(scoreboard);
 
-        for (final Score score: this.getScores().values()) {
+        for (final Score score: this.scores.values()) {
             final SpongeScore spongeScore = (SpongeScore) score;
             this.addScoreToScoreboard(scoreboard, spongeScore.getScoreFor(objective));
         }
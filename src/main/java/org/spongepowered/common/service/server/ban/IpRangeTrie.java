@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.ban;
+
+import com.google.common.net.InetAddresses;
+
+import java.net.InetAddress;
+
+import javax.annotation.Nullable;
+
+/**
+ * A binary prefix trie of address ranges in CIDR notation, such as
+ * {@code 10.0.0.0/8} or {@code 2001:db8::/32}. Finding the ranges containing
+ * an address takes one step per bit of the address, regardless of the number
+ * of ranges.
+ *
+ * @param <V> The type of the values stored per range
+ */
+public final class IpRangeTrie<V> {
+
+    private final Node<V> ipv4 = new Node<>();
+    private final Node<V> ipv6 = new Node<>();
+    private int size;
+
+    /**
+     * Gets whether the key is a range in CIDR notation.
+     *
+     * @param key The key
+     * @return Whether the key is a range
+     */
+    public static boolean isRange(final String key) {
+        return key.indexOf('/') != -1;
+    }
+
+    /**
+     * Gets the network address of a range in CIDR notation.
+     *
+     * @param key The range
+     * @return The network address
+     * @throws IllegalArgumentException If the key is not a valid range
+     */
+    public static InetAddress getNetworkAddress(final String key) {
+        final int slash = key.indexOf('/');
+        return InetAddresses.forString(slash == -1 ? key : key.substring(0, slash));
+    }
+
+    private static int getPrefixLength(final String key, final byte[] address) {
+        final int slash = key.indexOf('/');
+        final int length = slash == -1 ? address.length * 8 : Integer.parseInt(key.substring(slash + 1));
+        if (length < 0 || length > address.length * 8) {
+            throw new IllegalArgumentException("Invalid prefix length in range " + key);
+        }
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Stores the value for the range.
+     *
+     * @param key The range in CIDR notation
+     * @param value The value
+     * @throws IllegalArgumentException If the key is not a valid range
+     */
+    public void put(final String key, final V value) {
+        final byte[] address = IpRangeTrie.getNetworkAddress(key).getAddress();
+        final int length = IpRangeTrie.getPrefixLength(key, address);
+        Node<V> node = address.length == 4 ? this.ipv4 : this.ipv6;
+        for (int bit = 0; bit < length; bit++) {
+            final int index = IpRangeTrie.bit(address, bit);
+            if (node.children[index] == null) {
+                node.children[index] = new Node<>();
+            }
+            node = node.children[index];
+        }
+        if (node.value == null) {
+            this.size++;
+        }
+        node.value = value;
+    }
+
+    /**
+     * Removes the value stored for the range, if the key is a valid range.
+     *
+     * @param key The range in CIDR notation
+     */
+    public void remove(final String key) {
+        final byte[] address;
+        final int length;
+        try {
+            address = IpRangeTrie.getNetworkAddress(key).getAddress();
+            length = IpRangeTrie.getPrefixLength(key, address);
+        } catch (final IllegalArgumentException e) {
+            return;
+        }
+        Node<V> node = address.length == 4 ? this.ipv4 : this.ipv6;
+        for (int bit = 0; bit < length && node != null; bit++) {
+            node = node.children[IpRangeTrie.bit(address, bit)];
+        }
+        if (node != null && node.value != null) {
+            node.value = null;
+            this.size--;
+        }
+    }
+
+    /**
+     * Finds the value of the most specific range containing the address.
+     *
+     * @param address The address
+     * @return The value, if any range contains the address
+     */
+    public @Nullable V find(final InetAddress address) {
+        final byte[] bytes = address.getAddress();
+        Node<V> node = bytes.length == 4 ? this.ipv4 : this.ipv6;
+        V found = node.value;
+        for (int bit = 0; bit < bytes.length * 8; bit++) {
+            node = node.children[IpRangeTrie.bit(bytes, bit)];
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                found = node.value;
+            }
+        }
+        return found;
+    }
+
+    public void clear() {
+        this.ipv4.clear();
+        this.ipv6.clear();
+        this.size = 0;
+    }
+
+    private static int bit(final byte[] address, final int bit) {
+        return (address[bit >> 3] >> (7 - (bit & 7))) & 1;
+    }
+
+    private static final class Node<V> {
+
+        @SuppressWarnings("unchecked")
+        final Node<V>[] children = new Node[2];
+        @Nullable V value;
+
+        void clear() {
+            this.children[0] = null;
+            this.children[1] = null;
+            this.value = null;
+        }
+    }
+}
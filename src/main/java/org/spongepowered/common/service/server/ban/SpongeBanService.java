@@ -39,6 +39,8 @@
 import org.spongepowered.api.service.ban.BanTypes;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.management.UserListAccessor;
+import org.spongepowered.common.accessor.server.management.UserListEntryAccessor;
+import org.spongepowered.common.bridge.server.management.IPBanListBridge;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.util.UserListUtil;
@@ -102,7 +104,8 @@ public Optional<Ban.IP> getBanFor(final InetAddress address) {
         final UserListAccessor<String, IPBanEntry> accessor = ((UserListAccessor<String, IPBanEntry>) this.getIPBanList());
 
         accessor.invoker$removeExpired();
-        return Optional.ofNullable((Ban.IP) accessor.accessor$map().get(accessor.invoker$getKeyForUser(((IPBanList) accessor).getIpFromAddress(new InetSocketAddress(address, 0)))));
+        final IPBanEntry ban = accessor.accessor$map().get(accessor.invoker$getKeyForUser(((IPBanList) accessor).getIpFromAddress(new InetSocketAddress(address, 0))));
+        return Optional.ofNullable((Ban.IP) (ban == null ? ((IPBanListBridge) accessor).bridge$getRangeBan(address) : ban));
     }
 
     @SuppressWarnings("unchecked")
@@ -121,7 +124,8 @@ public boolean isBanned(final InetAddress address) {
         final UserListAccessor<String, IPBanEntry> accessor = ((UserListAccessor<String, IPBanEntry>) this.getIPBanList());
 
         accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(((IPBanList) accessor).getIpFromAddress(new InetSocketAddress(address, 0))));
+        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(((IPBanList) accessor).getIpFromAddress(new InetSocketAddress(address, 0))))
+            || ((IPBanListBridge) accessor).bridge$getRangeBan(address) != null;
     }
 
     @SuppressWarnings("unchecked")
@@ -157,8 +161,8 @@ public boolean removeBan(final Ban ban) {
         } else if (ban.getType().equals(BanTypes.IP.get())) {
             Sponge.getEventManager().post(SpongeEventFactory.createPardonIpEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), (Ban.IP) ban));
 
-            final InetSocketAddress inetSocketAddress = new InetSocketAddress(((Ban.IP) ban).getAddress(), 0);
-            UserListUtil.removeEntry(this.getIPBanList(), this.getIPBanList().getIpFromAddress(inetSocketAddress));
+            // Use the key of the entry itself, range bans are not stored under their network address
+            UserListUtil.removeEntry(this.getIPBanList(), ((UserListEntryAccessor<?>) ban).accessor$user());
             return true;
         }
         throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.getType()));
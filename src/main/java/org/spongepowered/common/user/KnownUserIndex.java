@@ -0,0 +1,212 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.common.profile.SpongeGameProfile;
+import org.spongepowered.common.util.CacheFileWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * A sorted index of the last known names of all known users, allowing prefix
+ * lookups in {@code O(log n + k)}.
+ *
+ * <p>Names are keyed by their lower case form followed by the unique id of
+ * the user, so that several users sharing a name (a name that changed owner)
+ * are kept apart while still sorting next to each other.</p>
+ *
+ * <p>Users may be created from any thread, so changes to the index are
+ * synchronized while lookups read it without locking. Every name entry holds
+ * its own profile, so a lookup never combines the name of one entry with
+ * another.</p>
+ */
+final class KnownUserIndex {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final char SEPARATOR = '\u0000';
+    private static final char PREFIX_END = '\uffff';
+
+    private final NavigableMap<String, GameProfile> byName = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    synchronized void put(final UUID uniqueId, final @Nullable String name) {
+        final String newName = name == null ? "" : name;
+        final String oldName = this.names.put(uniqueId, newName);
+        if (newName.equals(oldName)) {
+            return;
+        }
+        if (oldName != null && !oldName.isEmpty()) {
+            this.byName.remove(KnownUserIndex.key(oldName, uniqueId));
+        }
+        if (!newName.isEmpty()) {
+            this.byName.put(KnownUserIndex.key(newName, uniqueId), new SpongeGameProfile(uniqueId, newName));
+        }
+        this.dirty = true;
+    }
+
+    /**
+     * Adds the user without a name if it isn't already known.
+     *
+     * @return Whether the user was added
+     */
+    synchronized boolean putIfAbsent(final UUID uniqueId) {
+        if (this.names.putIfAbsent(uniqueId, "") == null) {
+            this.dirty = true;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void updateName(final UUID uniqueId, final @Nullable String name) {
+        // Only users that are already known are tracked
+        if (name != null && this.names.containsKey(uniqueId)) {
+            this.put(uniqueId, name);
+        }
+    }
+
+    /**
+     * Removes the user from both the unique id and the name mappings.
+     */
+    synchronized void remove(final UUID uniqueId) {
+        final String name = this.names.remove(uniqueId);
+        if (name != null) {
+            if (!name.isEmpty()) {
+                this.byName.remove(KnownUserIndex.key(name, uniqueId));
+            }
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Removes every user that isn't in the given set.
+     */
+    synchronized void retainAll(final Set<UUID> uniqueIds) {
+        for (final UUID uniqueId : new ArrayList<>(this.names.keySet())) {
+            if (!uniqueIds.contains(uniqueId)) {
+                this.remove(uniqueId);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        this.byName.clear();
+        this.names.clear();
+        this.dirty = true;
+    }
+
+    boolean contains(final UUID uniqueId) {
+        return this.names.containsKey(uniqueId);
+    }
+
+    int size() {
+        return this.names.size();
+    }
+
+    Stream<GameProfile> stream() {
+        return this.names.entrySet().stream()
+                .map(entry -> new SpongeGameProfile(entry.getKey(), entry.getValue().isEmpty() ? null : entry.getValue()));
+    }
+
+    /**
+     * Lazily streams all users whose name starts with the given lower case
+     * prefix, in name order.
+     */
+    Stream<GameProfile> streamOfMatches(final String lowercasePrefix) {
+        return this.range(lowercasePrefix).values().stream();
+    }
+
+    synchronized void load(final Path file) throws IOException {
+        this.byName.clear();
+        this.names.clear();
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            final int version = in.readInt();
+            if (version != KnownUserIndex.FORMAT_VERSION) {
+                throw new IOException("Unsupported known user index version " + version + " in " + file);
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final UUID uniqueId = new UUID(in.readLong(), in.readLong());
+                this.put(uniqueId, in.readUTF());
+            }
+        }
+        this.dirty = false;
+    }
+
+    /**
+     * Writes the index in the background if it changed since it was last
+     * written. The entries are copied on the calling thread, so the index may
+     * keep changing while the file is written.
+     */
+    synchronized void save(final Path file) {
+        if (!this.dirty) {
+            return;
+        }
+        this.dirty = false;
+        final List<Map.Entry<UUID, String>> entries = new ArrayList<>(this.names.entrySet());
+        CacheFileWriter.submit("save the known user index", () -> KnownUserIndex.write(file, entries));
+    }
+
+    private static void write(final Path file, final List<Map.Entry<UUID, String>> entries) throws IOException {
+        Files.createDirectories(file.getParent());
+        CacheFileWriter.writeAtomically(file, stream -> {
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+            out.writeInt(KnownUserIndex.FORMAT_VERSION);
+            out.writeInt(entries.size());
+            for (final Map.Entry<UUID, String> entry : entries) {
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeUTF(entry.getValue());
+            }
+            out.flush();
+        });
+    }
+
+    private NavigableMap<String, GameProfile> range(final String lowercasePrefix) {
+        return this.byName.subMap(lowercasePrefix, true, lowercasePrefix + KnownUserIndex.PREFIX_END, false);
+    }
+
+    private static String key(final String name, final UUID uniqueId) {
+        return name.toLowerCase(Locale.ROOT) + KnownUserIndex.SEPARATOR + uniqueId;
+    }
+}
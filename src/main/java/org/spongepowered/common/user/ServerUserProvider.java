@@ -33,10 +33,12 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.management.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.storage.PlayerDataAccessor;
 import org.spongepowered.common.entity.player.SpongeUser;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.io.IOException;
@@ -60,15 +62,20 @@ public final class ServerUserProvider {
 
     private final MinecraftServer server;
 
-    // This is the important set - this tells us if a User file actually exists,
-    // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    private static final String KNOWN_USERS_FILE = "known_users.idx";
+    private static final long WATCHER_POLL_INTERVAL = 1;
+
+    // This is the important index - this tells us if a User file actually exists,
+    // it should mirror the filesystem. It also tracks the last known name of each
+    // user for prefix lookups.
+    private final KnownUserIndex knownUsers = new KnownUserIndex();
     private final Cache<UUID, User> userCache;
 
     private final Map<String, MutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
     @Nullable private WatchService filesystemWatchService = null;
-    @Nullable private WatchKey watchKey = null;
+    @Nullable private volatile WatchKey watchKey = null;
+    private volatile boolean watching;
 
     public ServerUserProvider(final Server server) {
         this.userCache = Caffeine.newBuilder()
@@ -122,11 +129,26 @@ void refreshFilesystemProfiles() {
         if (this.watchKey != null && this.watchKey.isValid()) {
             this.watchKey.reset();
         }
-        this.knownUUIDs.clear();
         this.userCache.invalidateAll();
 
+        // Start from the persisted index, so that names which are no longer in the
+        // profile cache are kept.
+        final Path indexFile = this.getKnownUsersFile();
+        if (Files.isRegularFile(indexFile)) {
+            try {
+                this.knownUsers.load(indexFile);
+            } catch (final IOException e) {
+                SpongeCommon.getLogger().warn("Could not read the known user index, it will be rebuilt", e);
+                this.knownUsers.clear();
+            }
+        } else {
+            this.knownUsers.clear();
+        }
+
         // Add all known profiles from the data files
         final String[] uuids = this.getSaveHandler().getSeenPlayers();
+        final Set<UUID> existing = new HashSet<>(uuids.length);
+        boolean added = false;
         for (final String playerUuid : uuids) {
 
             // If the filename contains a period, we can fail fast. Vanilla code fixes the Strings that have ".dat" to strip that out
@@ -144,8 +166,30 @@ void refreshFilesystemProfiles() {
                 continue;
             }
 
-            this.knownUUIDs.add(uuid);
+            existing.add(uuid);
+            if (this.knownUsers.putIfAbsent(uuid)) {
+                added = true;
+            }
         }
+        this.knownUsers.retainAll(existing);
+
+        if (added) {
+            // Name the new users in a single pass over the profile cache, rather than
+            // looking up every unique id on its own
+            ((GameProfileCache) this.server.getProfileCache()).stream()
+                    .forEach(profile -> this.knownUsers.updateName(profile.getUniqueId(), profile.getName().orElse(null)));
+        }
+    }
+
+    void saveKnownUsers() {
+        this.knownUsers.save(this.getKnownUsersFile());
+    }
+
+    /**
+     * Updates the name of a known user after the profile cache learned it.
+     */
+    void updateKnownName(final UUID uuid, final @Nullable String name) {
+        this.knownUsers.updateName(uuid, name);
     }
 
     Optional<User> getUser(final String lastKnownName) {
@@ -162,8 +206,8 @@ Optional<User> getUser(final UUID uuid) {
     }
 
     Optional<User> getUser(@Nullable final GameProfile profile) {
-        this.pollFilesystemWatcher();
-        if (profile != null && this.knownUUIDs.contains(profile.getUniqueId())) {
+        this.ensureWatching();
+        if (profile != null && this.knownUsers.contains(profile.getUniqueId())) {
             // This is okay, the file exists.
             return Optional.of(this.getOrCreateUser(profile, false));
         }
@@ -192,30 +236,49 @@ User getOrCreateUser(final GameProfile profile, final boolean force) {
             }
         }
 
-        this.pollFilesystemWatcher();
+        this.ensureWatching();
         final User user = new SpongeUser(resolvedProfile);
         this.userCache.put(profile.getUniqueId(), user);
-        this.knownUUIDs.add(profile.getUniqueId());
+        this.knownUsers.put(profile.getUniqueId(), resolvedProfile.getName());
         return user;
     }
 
     boolean deleteUser(final UUID uuid) {
         if (this.deleteStoredPlayerData(uuid)) {
             this.userCache.invalidate(uuid);
-            this.knownUUIDs.remove(uuid);
+            this.knownUsers.remove(uuid);
             return true;
         }
         return false;
     }
 
     Stream<GameProfile> matchKnownProfiles(final String lowercaseName) {
-        return ((Server) this.server).getGameProfileManager().getCache().streamOfMatches(lowercaseName)
-                .filter(gameProfile -> this.knownUUIDs.contains(gameProfile.getUniqueId()));
+        this.ensureWatching();
+        return this.knownUsers.streamOfMatches(lowercaseName);
     }
 
     Stream<GameProfile> streamAll() {
-        final GameProfileCache cache = ((Server) this.server).getGameProfileManager().getCache();
-        return this.knownUUIDs.stream().map(x -> cache.getById(x).orElseGet(() -> GameProfile.of(x)));
+        this.ensureWatching();
+        return this.knownUsers.stream();
+    }
+
+    private void addKnownUser(final UUID uuid, @Nullable String name) {
+        if (name == null) {
+            if (this.knownUsers.contains(uuid)) {
+                return;
+            }
+            final com.mojang.authlib.GameProfile profile = this.server.getProfileCache().get(uuid);
+            name = profile == null ? null : profile.getName();
+        }
+        if (name == null) {
+            this.knownUsers.putIfAbsent(uuid);
+        } else {
+            this.knownUsers.put(uuid, name);
+        }
+    }
+
+    private Path getKnownUsersFile() {
+        return this.getSaveHandlerDirectory().resolveSibling("data").resolve("sponge").resolve(ServerUserProvider.KNOWN_USERS_FILE);
     }
 
     private Path getPlayerDataFile(final UUID uniqueId) {
@@ -241,18 +304,48 @@ private boolean deleteStoredPlayerData(final UUID uniqueId) {
         return true;
     }
 
-    private void pollFilesystemWatcher() {
-        if (this.watchKey == null || !this.watchKey.isValid()) {
-            // Reboot this if it's somehow failed.
+    /**
+     * Builds the known users and starts watching the player data directory on
+     * first use. Changes are picked up by a single repeating task, so callers
+     * never poll the watcher themselves. The task only polls the watcher off
+     * the main thread, the known users are updated on the main thread.
+     */
+    void ensureWatching() {
+        if (this.watching) {
+            return;
+        }
+        synchronized (this) {
+            if (this.watching) {
+                return;
+            }
             this.refreshFilesystemProfiles();
             this.setupWatchers();
+            SpongeCommon.getAsyncScheduler().submit(Task.builder()
+                    .name("Sponge User File Watcher")
+                    .interval(ServerUserProvider.WATCHER_POLL_INTERVAL, TimeUnit.SECONDS)
+                    .execute(this::pollFilesystemWatcher)
+                    .plugin(Launch.getInstance().getCommonPlugin())
+                    .build());
+            this.watching = true;
+        }
+    }
+
+    private void pollFilesystemWatcher() {
+        final WatchKey watchKey = this.watchKey;
+        if (watchKey == null || !watchKey.isValid()) {
+            // Reboot this if it's somehow failed.
+            SpongeCommon.getServerScheduler().submit(Task.builder()
+                    .execute(this::rebootFilesystemWatcher)
+                    .plugin(Launch.getInstance().getCommonPlugin())
+                    .build());
             return;
         }
         // We've already got the UUIDs, so we need to just see if the file system
         // watcher has found any more (or removed any).
+        final Map<UUID, WatchEvent.Kind<?>> changes = new HashMap<>();
         synchronized (this.watcherUpdateMap) {
             this.watcherUpdateMap.clear();
-            for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
+            for (final WatchEvent<?> event : watchKey.pollEvents()) {
                 @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
                 final Path file = ev.context();
 
@@ -270,20 +363,9 @@ private void pollFilesystemWatcher() {
                 final WatchEvent.Kind<?> kind = entry.getValue().get();
                 if (kind != null) {
                     final String name = entry.getKey();
-                    final UUID uuid;
                     if (name.endsWith(".dat")) {
                         try {
-                            uuid = UUID.fromString(name.substring(0, name.length() - 4));
-
-                            // It will only be create or delete here.
-                            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
-                            } else {
-                                this.knownUUIDs.remove(uuid);
-                                // We don't do this, in case we were caught at a bad time.
-                                // Everything else should handle it for us, however.
-                                // this.userCache.invalidate(uuid);
-                            }
+                            changes.put(UUID.fromString(name.substring(0, name.length() - 4)), kind);
                         } catch (final IllegalArgumentException ex) {
                             // ignored, file isn't of use to us.
                         }
@@ -291,6 +373,33 @@ private void pollFilesystemWatcher() {
                 }
             }
         }
+        if (!changes.isEmpty()) {
+            SpongeCommon.getServerScheduler().submit(Task.builder()
+                    .execute(() -> this.applyWatcherChanges(changes))
+                    .plugin(Launch.getInstance().getCommonPlugin())
+                    .build());
+        }
+    }
+
+    private void rebootFilesystemWatcher() {
+        if (this.watchKey == null || !this.watchKey.isValid()) {
+            this.refreshFilesystemProfiles();
+            this.setupWatchers();
+        }
+    }
+
+    private void applyWatcherChanges(final Map<UUID, WatchEvent.Kind<?>> changes) {
+        for (final Map.Entry<UUID, WatchEvent.Kind<?>> entry : changes.entrySet()) {
+            // It will only be create or delete here.
+            if (entry.getValue() == StandardWatchEventKinds.ENTRY_CREATE) {
+                this.addKnownUser(entry.getKey(), null);
+            } else {
+                this.knownUsers.remove(entry.getKey());
+                // We don't do this, in case we were caught at a bad time.
+                // Everything else should handle it for us, however.
+                // this.userCache.invalidate(uuid);
+            }
+        }
     }
 
     private PlayerData getSaveHandler() {
@@ -27,6 +27,7 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
@@ -52,8 +53,7 @@ public SpongeUserManager(final Server server) {
     }
 
     public void init() {
-        this.serverUserProvider.refreshFilesystemProfiles();
-        this.serverUserProvider.setupWatchers();
+        this.serverUserProvider.ensureWatching();
     }
 
     @Override
@@ -107,6 +107,14 @@ public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
         return this.serverUserProvider.matchKnownProfiles(checkNotNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT));
     }
 
+    public void updateKnownName(final UUID uniqueId, final @Nullable String name) {
+        this.serverUserProvider.updateKnownName(uniqueId, name);
+    }
+
+    public void save() {
+        this.serverUserProvider.saveKnownUsers();
+    }
+
     private GameProfile ensureNonEmptyUUID(final GameProfile profile) {
         if (profile.getUniqueId().equals(SpongeGameProfile.EMPTY_UUID)) {
             final String name = profile.getName().orElse(null);
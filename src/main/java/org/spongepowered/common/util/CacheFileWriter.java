@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Persists caches off the main thread. All tasks run in submission order
+ * on a single thread, so a cache may keep its file state in fields that
+ * only its tasks touch.
+ */
+public final class CacheFileWriter {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true).setNameFormat("Sponge - Cache Writer Thread").build());
+
+    /**
+     * Runs the task on the writer thread, logging any failure.
+     *
+     * @param description What the task does, for the log
+     * @param task The task
+     * @return A future completed once the task ran
+     */
+    public static CompletableFuture<Void> submit(final String description, final Task task) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                task.run();
+            } catch (final IOException | RuntimeException e) {
+                SpongeCommon.getLogger().error("Failed to {}", description, e);
+            }
+        }, CacheFileWriter.EXECUTOR);
+    }
+
+    /**
+     * Waits for all previously submitted tasks to complete.
+     */
+    public static void awaitPending() {
+        CompletableFuture.runAsync(() -> {}, CacheFileWriter.EXECUTOR).join();
+    }
+
+    /**
+     * Replaces the file with the written contents through a temporary file,
+     * so readers never see a partially written file.
+     *
+     * @param file The file
+     * @param writer Writes the contents
+     * @throws IOException If the file could not be written
+     */
+    public static void writeAtomically(final Path file, final Writer writer) throws IOException {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final OutputStream out = Files.newOutputStream(tempFile)) {
+            writer.write(out);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+
+        void write(OutputStream out) throws IOException;
+    }
+
+    private CacheFileWriter() {
+    }
+}
@@ -24,34 +24,114 @@
  */
 package org.spongepowered.common.util;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import net.minecraft.server.management.UserList;
 import net.minecraft.server.management.UserListEntry;
 import org.spongepowered.common.accessor.server.management.UserListEntryAccessor;
 import org.spongepowered.common.accessor.server.management.UserListAccessor;
+import org.spongepowered.common.bridge.server.management.UserListBridge;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public final class UserListUtil {
 
+    private static final long SAVE_INTERVAL_MILLIS = 1000L;
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Set<UserList<?, ?>> DIRTY_LISTS = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService SAVE_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true).setNameFormat("Sponge - User List Save Thread").build());
+
+    private static long lastSave;
+    private static CompletableFuture<Void> pendingSave = CompletableFuture.completedFuture(null);
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void addEntry(final UserList list, final UserListEntry entry) {
-        ((UserListAccessor) list).accessor$map().put(((UserListAccessor) list).invoker$getKeyForUser(((UserListEntryAccessor) entry).accessor$user()), entry);
-
-        try {
-            list.save();
-        } catch (final IOException e) {
-            UserListAccessor.accessor$LOGGER().warn("Could not save the list after adding a user.", e);
-        }
+        final String key = ((UserListAccessor) list).invoker$getKeyForUser(((UserListEntryAccessor) entry).accessor$user());
+        ((UserListAccessor) list).accessor$map().put(key, entry);
+        ((UserListBridge) list).bridge$entryAdded(key, entry);
+        UserListUtil.saveLater(list);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void removeEntry(final UserList list, final Object object) {
-        ((UserListAccessor) list).accessor$map().remove(((UserListAccessor) list).invoker$getKeyForUser(object));
+        final String key = ((UserListAccessor) list).invoker$getKeyForUser(object);
+        ((UserListAccessor) list).accessor$map().remove(key);
+        ((UserListBridge) list).bridge$entryRemoved(key);
+        UserListUtil.saveLater(list);
+    }
+
+    /**
+     * Marks the list as changed, it is written out by the next call
+     * to {@link #saveDirtyLists(boolean)}.
+     *
+     * @param list The changed list
+     */
+    public static void saveLater(final UserList<?, ?> list) {
+        UserListUtil.DIRTY_LISTS.add(list);
+    }
+
+    /**
+     * Writes all changed lists. The entries are snapshotted on the calling
+     * thread while the file writes happen off-thread, so a burst of ban or
+     * whitelist changes results in a single write per list.
+     *
+     * @param force Whether to ignore the save interval and wait for the
+     *     writes to complete
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static void saveDirtyLists(final boolean force) {
+        final long now = System.currentTimeMillis();
+        if (UserListUtil.DIRTY_LISTS.isEmpty() || !force && now - UserListUtil.lastSave < UserListUtil.SAVE_INTERVAL_MILLIS) {
+            if (force) {
+                UserListUtil.pendingSave.join();
+            }
+            return;
+        }
+        UserListUtil.lastSave = now;
+
+        final List<CompletableFuture<Void>> saves = new ArrayList<>();
+        for (final UserList<?, ?> list : UserListUtil.DIRTY_LISTS) {
+            UserListUtil.DIRTY_LISTS.remove(list);
+            final JsonArray entries = new JsonArray();
+            for (final Object entry : ((UserListAccessor) list).accessor$map().values()) {
+                final JsonObject data = new JsonObject();
+                ((UserListEntryAccessor) entry).invoker$serialize(data);
+                entries.add(data);
+            }
+            final Path file = list.getFile().toPath();
+            saves.add(CompletableFuture.runAsync(() -> UserListUtil.write(file, entries), UserListUtil.SAVE_EXECUTOR));
+        }
+        UserListUtil.pendingSave = CompletableFuture.allOf(saves.toArray(new CompletableFuture[0]));
+        if (force) {
+            UserListUtil.pendingSave.join();
+        }
+    }
 
+    private static void write(final Path file, final JsonArray entries) {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
         try {
-            list.save();
+            try (final Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                UserListUtil.GSON.toJson(entries, writer);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (final IOException e) {
-            UserListAccessor.accessor$LOGGER().warn("Could not save the list after removing a user.", e);
+            UserListAccessor.accessor$LOGGER().warn("Could not save the user list {}.", file, e);
         }
     }
 
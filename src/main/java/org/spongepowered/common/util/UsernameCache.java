@@ -26,38 +26,68 @@
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
-import io.leangen.geantyref.TypeToken;
+import com.google.common.io.CountingInputStream;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import org.spongepowered.api.Server;
 import org.spongepowered.common.SpongeCommon;
 
 import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * The last known username of every unique id that joined the server.
+ *
+ * <p>The cache is stored as a binary snapshot plus an append-only log of
+ * the changes made since. A save only appends what changed, and once the
+ * log outgrows the snapshot both are compacted into a new snapshot. Each
+ * snapshot has a generation, and a log only applies to the snapshot of the
+ * same generation, so a crash during compaction never replays stale
+ * changes. All file access happens on the {@link CacheFileWriter}
+ * thread.</p>
+ */
 public final class UsernameCache {
 
     private static final Charset CHARSET = Charsets.UTF_8;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+    private static final byte RECORD_SET = 1;
+    private static final byte RECORD_REMOVE = 0;
+    // Marks a removal in the pending changes, usernames are never empty
+    private static final String REMOVED = "";
 
     private final Map<UUID, String> usernameByUniqueId;
-    private final Gson gson;
-    private final Path cacheFile;
-    private boolean dirty = false;
+    private final Path legacyCacheFile;
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final Object changesLock = new Object();
+    private Map<UUID, String> changes = new HashMap<>();
+
+    // Only written on the writer thread once loaded
+    private volatile long generation;
+    private int loggedRecords;
 
     public UsernameCache(final Server server) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.cacheFile = server.getGame().getGameDirectory().resolve("usernamecache.json");
+        this.legacyCacheFile = server.getGame().getGameDirectory().resolve("usernamecache.json");
+        this.snapshotFile = server.getGame().getGameDirectory().resolve("usernamecache.dat");
+        this.logFile = server.getGame().getGameDirectory().resolve("usernamecache.log");
     }
 
     public void setUsername(final UUID uniqueId, final String username) {
@@ -68,16 +98,20 @@ public void setUsername(final UUID uniqueId, final String username) {
             return;
         }
 
-        this.usernameByUniqueId.put(uniqueId, username);
-        this.dirty = true;
+        synchronized (this.changesLock) {
+            this.usernameByUniqueId.put(uniqueId, username);
+            this.changes.put(uniqueId, username);
+        }
     }
 
     public boolean removeUsername(final UUID uniqueId) {
         Preconditions.checkNotNull(uniqueId);
 
-        if (this.usernameByUniqueId.remove(uniqueId) != null) {
-            this.dirty = true;
-            return true;
+        synchronized (this.changesLock) {
+            if (this.usernameByUniqueId.remove(uniqueId) != null) {
+                this.changes.put(uniqueId, UsernameCache.REMOVED);
+                return true;
+            }
         }
 
         return false;
@@ -114,44 +148,194 @@ public Map<UUID, String> getAll() {
     }
 
     public void load() {
+        CacheFileWriter.awaitPending();
         this.usernameByUniqueId.clear();
+        synchronized (this.changesLock) {
+            this.changes = new HashMap<>();
+        }
+        this.generation = 0;
+        this.loggedRecords = 0;
 
-        if (Files.notExists(this.cacheFile)) {
-            return;
+        if (Files.exists(this.snapshotFile)) {
+            try {
+                this.readSnapshot();
+                this.repairLog(this.replayLog());
+            } catch (final IOException e) {
+                SpongeCommon.getLogger().error("Failed to read username cache from disk, starting with an empty cache", e);
+                this.usernameByUniqueId.clear();
+                this.generation = 0;
+            }
+        } else if (Files.exists(this.legacyCacheFile)) {
+            this.readLegacyCache();
         }
+    }
 
-        try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
-            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-            this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
-        } catch (final JsonSyntaxException e) {
-            SpongeCommon.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
-            this.deleteCacheFile();
-        } catch (final IOException e) {
-            SpongeCommon.getLogger().error("Failed to read username cache file from disk, deleting file", e);
-            this.deleteCacheFile();
+    private void readSnapshot() throws IOException {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.snapshotFile)))) {
+            final int version = in.readInt();
+            if (version != UsernameCache.SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported username cache version " + version);
+            }
+            this.generation = in.readLong();
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                this.usernameByUniqueId.put(new UUID(in.readLong(), in.readLong()), in.readUTF());
+            }
         }
     }
 
-    private void deleteCacheFile() {
-        try {
-            Files.deleteIfExists(this.cacheFile);
-        } catch (IOException e) {
-            SpongeCommon.getLogger().error("Failed to delete username cache file from disk!", e);
+    /**
+     * Replays the log on top of the snapshot.
+     *
+     * @return The length of the valid part of the log, or 0 if the log is
+     *     missing or doesn't belong to the snapshot
+     * @throws IOException If the log could not be read
+     */
+    private long replayLog() throws IOException {
+        if (Files.notExists(this.logFile)) {
+            return 0;
         }
+        final CountingInputStream counter = new CountingInputStream(new BufferedInputStream(Files.newInputStream(this.logFile)));
+        long validLength = 0;
+        try (final DataInputStream in = new DataInputStream(counter)) {
+            if (in.readLong() != this.generation) {
+                // Left over from a compaction that crashed before rewriting the log
+                return 0;
+            }
+            validLength = counter.getCount();
+            while (true) {
+                final byte type;
+                final UUID uniqueId;
+                final String username;
+                try {
+                    type = in.readByte();
+                    uniqueId = new UUID(in.readLong(), in.readLong());
+                    username = type == UsernameCache.RECORD_SET ? in.readUTF() : null;
+                } catch (final EOFException e) {
+                    // End of the log, or a record cut short by a crash
+                    break;
+                }
+                if (username == null) {
+                    this.usernameByUniqueId.remove(uniqueId);
+                } else {
+                    this.usernameByUniqueId.put(uniqueId, username);
+                }
+                this.loggedRecords++;
+                validLength = counter.getCount();
+            }
+        } catch (final EOFException e) {
+            // Crashed before the header was written, nothing to replay
+        }
+        return validLength;
     }
 
-    public void save() {
-        if (!this.dirty) {
+    /**
+     * Makes sure later appends go to a log that is replayed on the next load.
+     * A missing or stale log is recreated for the current generation, and a
+     * record cut short by a crash is cut off.
+     */
+    private void repairLog(final long validLength) throws IOException {
+        if (validLength > 0 && Files.size(this.logFile) == validLength) {
             return;
         }
+        final long generation = this.generation;
+        CacheFileWriter.submit("repair the username cache log", () -> {
+            if (validLength == 0) {
+                this.writeLogHeader(generation);
+                return;
+            }
+            try (final FileChannel channel = FileChannel.open(this.logFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        });
+    }
 
-        try {
-            // Make sure we don't save when another thread is still saving
-            final String serialized = this.gson.toJson(this.usernameByUniqueId);
-            Files.write(this.cacheFile, serialized.getBytes(UsernameCache.CHARSET));
-            this.dirty = false;
+    private void readLegacyCache() {
+        // Stream the entries rather than building a tree of the whole file first
+        try (final BufferedReader reader = Files.newBufferedReader(this.legacyCacheFile, UsernameCache.CHARSET);
+             final JsonReader json = new JsonReader(reader)) {
+            json.beginObject();
+            while (json.hasNext()) {
+                this.usernameByUniqueId.put(UUID.fromString(json.nextName()), json.nextString());
+            }
+            json.endObject();
+        } catch (final JsonParseException | IllegalArgumentException | IllegalStateException e) {
+            SpongeCommon.getLogger().error("Could not parse username cache file as valid json, ignoring it", e);
+            this.usernameByUniqueId.clear();
         } catch (final IOException e) {
-            SpongeCommon.getLogger().error("Failed to save username cache to file!", e);
+            SpongeCommon.getLogger().error("Failed to read username cache file from disk, ignoring it", e);
+            this.usernameByUniqueId.clear();
+        }
+    }
+
+    /**
+     * Writes the changes made since the last save in the background.
+     */
+    public void save() {
+        final Map<UUID, String> changes;
+        synchronized (this.changesLock) {
+            // Nothing is stored yet the first time, which writes the initial snapshot
+            if (this.changes.isEmpty() && this.generation != 0) {
+                return;
+            }
+            changes = this.changes;
+            this.changes = new HashMap<>();
+        }
+        CacheFileWriter.submit("save the username cache", () -> {
+            if (this.generation == 0 || this.loggedRecords + changes.size() > Math.max(UsernameCache.MIN_COMPACTION_RECORDS, this.usernameByUniqueId.size())) {
+                this.compact();
+            } else {
+                this.append(changes);
+            }
+        });
+    }
+
+    private void append(final Map<UUID, String> changes) throws IOException {
+        if (Files.notExists(this.logFile)) {
+            this.writeLogHeader(this.generation);
         }
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(this.logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)))) {
+            for (final Map.Entry<UUID, String> change : changes.entrySet()) {
+                final boolean removed = UsernameCache.REMOVED.equals(change.getValue());
+                out.writeByte(removed ? UsernameCache.RECORD_REMOVE : UsernameCache.RECORD_SET);
+                out.writeLong(change.getKey().getMostSignificantBits());
+                out.writeLong(change.getKey().getLeastSignificantBits());
+                if (!removed) {
+                    out.writeUTF(change.getValue());
+                }
+            }
+        }
+        this.loggedRecords += changes.size();
+    }
+
+    private void compact() throws IOException {
+        // Changes made while the snapshot is taken are also part of a later save, which appends them to the new log
+        final Map<UUID, String> snapshot = new HashMap<>(this.usernameByUniqueId);
+        final long generation = this.generation + 1;
+        CacheFileWriter.writeAtomically(this.snapshotFile, stream -> {
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+            out.writeInt(UsernameCache.SNAPSHOT_VERSION);
+            out.writeLong(generation);
+            out.writeInt(snapshot.size());
+            for (final Map.Entry<UUID, String> entry : snapshot.entrySet()) {
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeUTF(entry.getValue());
+            }
+            out.flush();
+        });
+        this.writeLogHeader(generation);
+        this.generation = generation;
+        this.loggedRecords = 0;
+        Files.deleteIfExists(this.legacyCacheFile);
+    }
+
+    private void writeLogHeader(final long generation) throws IOException {
+        CacheFileWriter.writeAtomically(this.logFile, stream -> {
+            final DataOutputStream out = new DataOutputStream(stream);
+            out.writeLong(generation);
+            out.flush();
+        });
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.metric;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Named counters and gauges maintained by the implementation, listed by
+ * {@code /sponge metrics}.
+ *
+ * <p>Names are dot separated, starting with the system the value belongs
+ * to, for example {@code world.loads}.</p>
+ */
+public final class RuntimeMetrics {
+
+    private static final Map<String, LongSupplier> METRICS = new ConcurrentSkipListMap<>();
+
+    /**
+     * Registers a metric, replacing any metric previously registered under
+     * the same name.
+     *
+     * @param name The name
+     * @param value The supplier of the current value
+     */
+    public static void register(final String name, final LongSupplier value) {
+        RuntimeMetrics.METRICS.put(name, value);
+    }
+
+    /**
+     * Gets the current value of every metric, sorted by name.
+     *
+     * @return The values
+     */
+    public static Map<String, Long> snapshot() {
+        final Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (final Map.Entry<String, LongSupplier> entry : RuntimeMetrics.METRICS.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().getAsLong());
+        }
+        return snapshot;
+    }
+
+    private RuntimeMetrics() {
+    }
+}
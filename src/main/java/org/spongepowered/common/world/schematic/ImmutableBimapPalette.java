@@ -39,6 +39,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 public class ImmutableBimapPalette<T, R> implements Palette.Immutable<T, R> {
@@ -49,6 +50,7 @@
     private final int maxId;
     private final Registry<R> registry;
     private final RegistryType<R> registryType;
+    private final PaletteRemapCache.Resolved<T> resolved;
 
     public ImmutableBimapPalette(
         final PaletteType<T, R> paletteType,
@@ -70,6 +72,7 @@ public ImmutableBimapPalette(
             }
         }
         this.maxId = maxId;
+        this.resolved = new PaletteRemapCache.Resolved<>(maxId, this::resolve);
     }
 
     @Override
@@ -97,6 +100,33 @@ public Optional<PaletteReference<T, R>> get(final int id) {
         return Optional.ofNullable(this.ids.get(id));
     }
 
+    @Override
+    public Optional<T> get(final int id, final RegistryHolder holder) {
+        final @Nullable T cached = this.resolved.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return this.get(id)
+            .flatMap(ref -> Objects.requireNonNull(holder, "RegistryHolder cannot be null")
+                .findRegistry(ref.registry())
+                .flatMap(reg -> this.paletteType.getResolver().apply(ref.value(), reg)));
+    }
+
+    private Optional<T> resolve(final int id) {
+        return this.get(id).flatMap(ref -> this.paletteType.getResolver().apply(ref.value(), this.registry));
+    }
+
+    /**
+     * Gets a table mapping the ids of this palette to global ids.
+     *
+     * @param globalId The function providing the global id of a value
+     * @return The table
+     * @see PaletteRemapCache#globalIds(Palette, ToIntFunction)
+     */
+    public int[] getGlobalIds(final ToIntFunction<? super T> globalId) {
+        return this.resolved.globalIds(globalId);
+    }
+
     @Override
     public Stream<T> stream() {
         return this.idsr.keySet().stream()
@@ -27,6 +27,7 @@
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.registry.RegistryType;
@@ -40,6 +41,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 public class MutableBimapPalette<T, R> implements Palette.Mutable<T, R> {
@@ -53,6 +55,9 @@
     private final Registry<R> registry;
     private final RegistryType<R> registryType;
     private int maxId = 0;
+    // Incremented on every change, invalidating the remap cache
+    private int version;
+    private final PaletteRemapCache<T> remapCache = new PaletteRemapCache<>();
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType) {
         this.ids = HashBiMap.create();
@@ -116,6 +121,7 @@ private int getOrAssignInternal(final PaletteReference<T, R> ref) {
             }
             this.allocation.set(next);
             this.ids.put(next, ref);
+            this.version++;
             return next;
         }
         return id;
@@ -138,16 +144,29 @@ public Optional<PaletteReference<T, R>> get(final int id) {
 
     @Override
     public Optional<T> get(final int id, final RegistryHolder holder) {
+        final @Nullable T cached = this.remapCache.get(this.version, id, this::resolve);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         return this.get(id)
-            .flatMap(ref -> {
-                final Optional<T> byRegistry = this.paletteType.getResolver().apply(ref.value(), this.registry);
-                if (!byRegistry.isPresent()) {
-                    return Objects.requireNonNull(holder,"RegistryHolder cannot be null")
-                        .findRegistry(ref.registry())
-                        .flatMap(reg -> this.getType().getResolver().apply(ref.value(), reg));
-                }
-                return byRegistry;
-            });
+            .flatMap(ref -> Objects.requireNonNull(holder,"RegistryHolder cannot be null")
+                .findRegistry(ref.registry())
+                .flatMap(reg -> this.getType().getResolver().apply(ref.value(), reg)));
+    }
+
+    private Optional<T> resolve(final int id) {
+        return this.get(id).flatMap(ref -> this.paletteType.getResolver().apply(ref.value(), this.registry));
+    }
+
+    /**
+     * Gets a table mapping the ids of this palette to global ids.
+     *
+     * @param globalId The function providing the global id of a value
+     * @return The table
+     * @see PaletteRemapCache#globalIds(Palette, ToIntFunction)
+     */
+    public int[] getGlobalIds(final ToIntFunction<? super T> globalId) {
+        return this.remapCache.globalIds(this.version, this.maxId, this::resolve, globalId);
     }
 
     public int assign(final T state, final int id) {
@@ -161,6 +180,7 @@ public int assign(final T state, final int id) {
             this.registry
         );
         this.ids.put(id, ref);
+        this.version++;
         return id;
     }
 
@@ -185,6 +205,7 @@ public boolean remove(final T state) {
             this.maxId = this.allocation.previousSetBit(this.maxId);
         }
         this.ids.remove(id);
+        this.version++;
         return true;
     }
 
@@ -0,0 +1,182 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.world.schematic.Palette;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Caches the values the ids of a palette resolve to, and a table mapping the
+ * ids of the palette to global ids, until the palette changes.
+ *
+ * <p>Resolving a palette id otherwise parses its reference and looks it up
+ * in the registry on every access, which dominates copying volumes between
+ * schematics and worlds.</p>
+ *
+ * <p>The cache is not thread safe, like the mutable palettes using it.
+ * Immutable palettes may be read from any thread and use a {@link Resolved}
+ * table built up front instead.</p>
+ *
+ * @param <T> The type of the palette values
+ */
+public final class PaletteRemapCache<T> {
+
+    private static final Object UNRESOLVED = new Object();
+
+    private int version = -1;
+    private @Nullable Object[] values = new Object[0];
+    private @Nullable ToIntFunction<? super T> globalIdFunction;
+    private int @Nullable [] globalIds;
+
+    /**
+     * Gets a table mapping the ids of the palette to global ids, with
+     * {@code -1} for ids that are unassigned or do not resolve. The table is
+     * shared and must not be modified.
+     *
+     * <p>Tables are only cached for the palettes of the implementation, and
+     * only for the last global id function used, so the function should be
+     * a constant.</p>
+     *
+     * @param palette The palette
+     * @param globalId The function providing the global id of a value
+     * @param <T> The type of the palette values
+     * @return The table
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> int[] globalIds(final Palette<T, ?> palette, final ToIntFunction<? super T> globalId) {
+        if (palette instanceof MutableBimapPalette) {
+            return ((MutableBimapPalette<T, ?>) palette).getGlobalIds(globalId);
+        }
+        if (palette instanceof ImmutableBimapPalette) {
+            return ((ImmutableBimapPalette<T, ?>) palette).getGlobalIds(globalId);
+        }
+        final int[] table = new int[palette.getHighestId() + 1];
+        for (int id = 0; id < table.length; id++) {
+            table[id] = palette.get(id, Sponge.getGame().registries()).map(globalId::applyAsInt).orElse(-1);
+        }
+        return table;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable T get(final int version, final int id, final IntFunction<Optional<T>> resolver) {
+        this.validate(version);
+        if (id < 0) {
+            return null;
+        }
+        if (id >= this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(id + 1, this.values.length * 2));
+        }
+        @Nullable Object value = this.values[id];
+        if (value == null) {
+            value = resolver.apply(id).<Object>map(v -> v).orElse(PaletteRemapCache.UNRESOLVED);
+            this.values[id] = value;
+        }
+        return value == PaletteRemapCache.UNRESOLVED ? null : (T) value;
+    }
+
+    int[] globalIds(final int version, final int highestId, final IntFunction<Optional<T>> resolver, final ToIntFunction<? super T> globalId) {
+        this.validate(version);
+        if (this.globalIds != null && this.globalIdFunction == globalId) {
+            return this.globalIds;
+        }
+        final int[] table = new int[highestId + 1];
+        for (int id = 0; id <= highestId; id++) {
+            final @Nullable T value = this.get(version, id, resolver);
+            table[id] = value == null ? -1 : globalId.applyAsInt(value);
+        }
+        this.globalIdFunction = globalId;
+        this.globalIds = table;
+        return table;
+    }
+
+    private void validate(final int version) {
+        if (this.version != version) {
+            this.version = version;
+            Arrays.fill(this.values, null);
+            this.globalIdFunction = null;
+            this.globalIds = null;
+        }
+    }
+
+    /**
+     * The values every id of an immutable palette resolves to, resolved once
+     * when the palette is created. The global id table is built on first use
+     * and published together with its function, so concurrent readers at
+     * worst build the same table twice.
+     *
+     * @param <T> The type of the palette values
+     */
+    static final class Resolved<T> {
+
+        private final @Nullable Object[] values;
+        private volatile @Nullable GlobalIds<T> globalIds;
+
+        Resolved(final int highestId, final IntFunction<Optional<T>> resolver) {
+            this.values = new Object[highestId + 1];
+            for (int id = 0; id <= highestId; id++) {
+                this.values[id] = resolver.apply(id).orElse(null);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable T get(final int id) {
+            if (id < 0 || id >= this.values.length) {
+                return null;
+            }
+            return (T) this.values[id];
+        }
+
+        int[] globalIds(final ToIntFunction<? super T> globalId) {
+            final @Nullable GlobalIds<T> current = this.globalIds;
+            if (current != null && current.function == globalId) {
+                return current.table;
+            }
+            final int[] table = new int[this.values.length];
+            for (int id = 0; id < table.length; id++) {
+                final @Nullable T value = this.get(id);
+                table[id] = value == null ? -1 : globalId.applyAsInt(value);
+            }
+            this.globalIds = new GlobalIds<>(globalId, table);
+            return table;
+        }
+    }
+
+    private static final class GlobalIds<T> {
+
+        final ToIntFunction<? super T> function;
+        final int[] table;
+
+        GlobalIds(final ToIntFunction<? super T> function, final int[] table) {
+            this.function = function;
+            this.table = table;
+        }
+    }
+}
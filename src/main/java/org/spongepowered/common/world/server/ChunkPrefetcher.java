@@ -0,0 +1,232 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.mojang.datafixers.util.Either;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.server.ChunkHolder;
+import net.minecraft.world.server.ServerChunkProvider;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.server.TicketType;
+import org.spongepowered.common.accessor.world.server.ServerChunkProviderAccessor;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads the chunks of a region ahead of time, so that code working on the
+ * region afterwards does not load or generate chunks inline on the main
+ * thread.
+ *
+ * <p>Chunks are scheduled through the ticket system of the world's
+ * {@link ServerChunkProvider}, at most {@link #MAX_IN_FLIGHT} at a time per
+ * world, and are held by a ticket until the request is
+ * {@link Request#release() released}, or for {@link #HOLD_TICKS} ticks after
+ * all chunks became resident.</p>
+ */
+public final class ChunkPrefetcher {
+
+    public static final int MAX_IN_FLIGHT = 64;
+    public static final int HOLD_TICKS = 20 * 30;
+
+    private static final TicketType<ChunkPos> PREFETCH = TicketType.create("sponge_prefetch", Comparator.comparingLong(ChunkPos::toLong));
+
+    private static final LongAdder REQUESTED = new LongAdder();
+    private static final LongAdder LOADED = new LongAdder();
+    private static final LongAdder FAILED = new LongAdder();
+
+    static {
+        RuntimeMetrics.register("chunk-prefetch.requested", ChunkPrefetcher.REQUESTED::sum);
+        RuntimeMetrics.register("chunk-prefetch.loaded", ChunkPrefetcher.LOADED::sum);
+        RuntimeMetrics.register("chunk-prefetch.failed", ChunkPrefetcher.FAILED::sum);
+    }
+
+    private final ServerWorld world;
+    private final Queue<Request> submitted = new ConcurrentLinkedQueue<>();
+    private final Deque<Request> pending = new ArrayDeque<>();
+    private final List<Request> holding = new ArrayList<>();
+    private int inFlight;
+    private int ticks;
+
+    public ChunkPrefetcher(final ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Requests all chunks containing the block region to be loaded up to the
+     * given status. May be called from any thread.
+     *
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param status The status the chunks need to reach
+     * @return The request
+     */
+    public Request prefetch(final Vector3i min, final Vector3i max, final ChunkStatus status) {
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        Objects.requireNonNull(status, "status");
+
+        final LongArrayList chunks = new LongArrayList();
+        for (int x = Math.min(min.getX(), max.getX()) >> 4; x <= Math.max(min.getX(), max.getX()) >> 4; x++) {
+            for (int z = Math.min(min.getZ(), max.getZ()) >> 4; z <= Math.max(min.getZ(), max.getZ()) >> 4; z++) {
+                chunks.add(ChunkPos.asLong(x, z));
+            }
+        }
+        final Request request = new Request(chunks, status);
+        ChunkPrefetcher.REQUESTED.add(chunks.size());
+        this.submitted.add(request);
+        if (this.world.getServer().isSameThread()) {
+            this.dispatch();
+        }
+        return request;
+    }
+
+    public void tick() {
+        this.ticks++;
+        this.dispatch();
+
+        final Iterator<Request> iterator = this.holding.iterator();
+        while (iterator.hasNext()) {
+            final Request request = iterator.next();
+            if (request.released || this.ticks - request.residentTick >= ChunkPrefetcher.HOLD_TICKS) {
+                this.releaseTickets(request);
+                iterator.remove();
+            }
+        }
+    }
+
+    private void dispatch() {
+        Request request;
+        while ((request = this.submitted.poll()) != null) {
+            this.pending.add(request);
+        }
+
+        final ServerChunkProvider chunkSource = this.world.getChunkSource();
+        while (this.inFlight < ChunkPrefetcher.MAX_IN_FLIGHT && (request = this.pending.peek()) != null) {
+            if (request.released || request.future.isDone()) {
+                // Cancelled by the caller, drop what was scheduled so far
+                this.pending.poll();
+                this.releaseTickets(request);
+                request.future.cancel(false);
+                continue;
+            }
+            final long chunk = request.chunks.getLong(request.scheduled++);
+            if (request.scheduled == request.chunks.size()) {
+                this.pending.poll();
+            }
+
+            final ChunkPos pos = new ChunkPos(chunk);
+            chunkSource.addRegionTicket(ChunkPrefetcher.PREFETCH, pos, request.ticketDistance, pos);
+            this.inFlight++;
+            final Request owner = request;
+            ((ServerChunkProviderAccessor) chunkSource).invoker$getChunkFutureMainThread(pos.x, pos.z, request.status, true)
+                    .whenCompleteAsync((result, throwable) -> this.complete(owner, pos, result, throwable), this.world.getServer());
+        }
+    }
+
+    private void complete(final Request request, final ChunkPos pos, final Either<IChunk, ChunkHolder.IChunkLoadingError> result,
+            final Throwable throwable) {
+        this.inFlight--;
+        request.completed++;
+        if (throwable != null || !result.left().isPresent()) {
+            ChunkPrefetcher.FAILED.increment();
+            request.future.completeExceptionally(throwable != null ? throwable
+                    : new IllegalStateException("Chunk " + pos + " could not be loaded to status " + request.status));
+        } else {
+            ChunkPrefetcher.LOADED.increment();
+        }
+
+        if (request.completed == request.chunks.size()) {
+            request.residentTick = this.ticks;
+            request.future.complete(null);
+            this.holding.add(request);
+        }
+        this.dispatch();
+    }
+
+    private void releaseTickets(final Request request) {
+        final ServerChunkProvider chunkSource = this.world.getChunkSource();
+        for (int i = 0; i < request.scheduled; i++) {
+            final ChunkPos pos = new ChunkPos(request.chunks.getLong(i));
+            chunkSource.removeRegionTicket(ChunkPrefetcher.PREFETCH, pos, request.ticketDistance, pos);
+        }
+        request.scheduled = 0;
+    }
+
+    public static final class Request {
+
+        final LongArrayList chunks;
+        final ChunkStatus status;
+        final int ticketDistance;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        int scheduled;
+        int completed;
+        int residentTick;
+        volatile boolean released;
+
+        Request(final LongArrayList chunks, final ChunkStatus status) {
+            this.chunks = chunks;
+            this.status = status;
+            // Region tickets are at level 33 - distance, chunks reach the status at 33 + its distance
+            this.ticketDistance = -ChunkStatus.getDistance(status);
+        }
+
+        /**
+         * Gets the future completed once every chunk of the request reached
+         * the requested status. The future is completed on the main thread.
+         *
+         * @return The future
+         */
+        public CompletableFuture<Void> future() {
+            return this.future;
+        }
+
+        public int chunkCount() {
+            return this.chunks.size();
+        }
+
+        /**
+         * Allows the chunks of the request to unload again, and stops loading
+         * chunks that were not scheduled yet.
+         */
+        public void release() {
+            this.released = true;
+        }
+    }
+}
@@ -55,6 +55,12 @@ static RegistryKey<World> createRegistryKey(final ResourceKey key) {
 
     void loadLevel();
 
+    /**
+     * Performs per tick housekeeping, such as unloading idle worlds.
+     */
+    default void tick() {
+    }
+
     default String getDirectoryName(final ResourceKey key) {
         final RegistryKey<World> registryKey = SpongeWorldManager.createRegistryKey(key);
         if (World.OVERWORLD.equals(registryKey)) {
@@ -0,0 +1,290 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Performs bulk file operations on world directories off of the main thread.
+ *
+ * <p>Files are copied and deleted in parallel on a dedicated executor and
+ * the progress of long running operations is logged periodically.</p>
+ */
+public final class WorldFileOperations {
+
+    private static final int PARALLELISM = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(WorldFileOperations.PARALLELISM, new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge - World IO Thread #%d")
+            .build());
+
+    public static Executor executor() {
+        return WorldFileOperations.EXECUTOR;
+    }
+
+    /**
+     * Runs the action on the world IO executor.
+     *
+     * @param action The action
+     * @return The future
+     */
+    public static CompletableFuture<Void> runAsync(final IOAction action) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                action.run();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WorldFileOperations.EXECUTOR);
+    }
+
+    /**
+     * Copies the contents of a directory, skipping directories and files
+     * rejected by the given filters. The partially copied target is removed
+     * if the copy fails.
+     *
+     * @param description The description used when logging progress
+     * @param source The source directory
+     * @param target The target directory
+     * @param directoryFilter Whether a directory and its contents are copied
+     * @param fileFilter Whether a file is copied
+     * @return The future
+     */
+    public static CompletableFuture<Void> copyDirectory(final String description, final Path source, final Path target,
+            final Predicate<Path> directoryFilter, final Predicate<Path> fileFilter) {
+        final CompletableFuture<Void> copy = CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            final AtomicLong totalBytes = new AtomicLong();
+            try {
+                Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                        if (!dir.equals(source) && !directoryFilter.test(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        Files.createDirectories(target.resolve(source.relativize(dir)));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        if (fileFilter.test(file)) {
+                            files.add(file);
+                            totalBytes.addAndGet(attrs.size());
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Progress(description, files, totalBytes.get());
+        }, WorldFileOperations.EXECUTOR).thenCompose(progress -> {
+            final CompletableFuture<?>[] copies = new CompletableFuture<?>[progress.files.size()];
+            for (int i = 0; i < copies.length; i++) {
+                final Path file = progress.files.get(i);
+                copies[i] = WorldFileOperations.runAsync(() -> WorldFileOperations.copyFile(file, target.resolve(source.relativize(file)), progress));
+            }
+            return CompletableFuture.allOf(copies).thenRun(progress::complete);
+        });
+
+        // Bail the whole deal if we hit IO problems!
+        return copy.handle((ignored, throwable) -> {
+            if (throwable == null) {
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            return WorldFileOperations.deleteDirectory(target).<Void>handle((deleted, deleteFailure) -> {
+                throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+            });
+        }).thenCompose(future -> future);
+    }
+
+    /**
+     * Moves a directory. Directories that can't be renamed, for example when
+     * the target is on a different file system, are copied and then deleted.
+     * The future only fails if the target is incomplete, in which case the
+     * source is left untouched.
+     *
+     * @param description The description used when logging progress
+     * @param source The source directory
+     * @param target The target directory
+     * @return The future
+     */
+    public static CompletableFuture<Void> moveDirectory(final String description, final Path source, final Path target) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target);
+                return true;
+            } catch (final IOException e) {
+                if (Files.exists(source) && Files.notExists(target)) {
+                    return false;
+                }
+                throw new UncheckedIOException(e);
+            }
+        }, WorldFileOperations.EXECUTOR).thenCompose(moved -> {
+            if (moved) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return WorldFileOperations.copyDirectory(description, source, target, dir -> true, file -> true)
+                    .thenCompose(ignored -> WorldFileOperations.deleteDirectory(source).exceptionally(throwable -> {
+                        // The target is complete at this point, so the move itself succeeded
+                        SpongeCommon.getLogger().warn("{}: failed to delete the source directory '{}' after copying it", description, source,
+                                throwable);
+                        return null;
+                    }));
+        });
+    }
+
+    /**
+     * Deletes a directory and all of its contents.
+     *
+     * @param directory The directory
+     * @return The future
+     */
+    public static CompletableFuture<Void> deleteDirectory(final Path directory) {
+        final List<Path> files = new ArrayList<>();
+        final List<Path> directories = new ArrayList<>();
+        return WorldFileOperations.runAsync(() -> {
+            if (Files.notExists(directory)) {
+                return;
+            }
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        files.add(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+                        if (exc != null) {
+                            throw exc;
+                        }
+                        directories.add(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final NoSuchFileException ignored) {
+            }
+        }).thenCompose(ignored -> {
+            final CompletableFuture<?>[] deletes = new CompletableFuture<?>[files.size()];
+            for (int i = 0; i < deletes.length; i++) {
+                final Path file = files.get(i);
+                deletes[i] = WorldFileOperations.runAsync(() -> Files.deleteIfExists(file));
+            }
+            return CompletableFuture.allOf(deletes);
+        }).thenCompose(ignored -> WorldFileOperations.runAsync(() -> {
+            // Children are visited before their parents
+            for (final Path dir : directories) {
+                Files.deleteIfExists(dir);
+            }
+        }));
+    }
+
+    private static void copyFile(final Path source, final Path target, final Progress progress) throws IOException {
+        try (final FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                final long transferred = in.transferTo(position, Math.min(WorldFileOperations.TRANSFER_CHUNK_SIZE, size - position), out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                progress.advance(transferred);
+            }
+        }
+        final FileTime lastModified = Files.getLastModifiedTime(source);
+        Files.setLastModifiedTime(target, lastModified);
+    }
+
+    @FunctionalInterface
+    public interface IOAction {
+
+        void run() throws IOException;
+    }
+
+    private static final class Progress {
+
+        final String description;
+        final List<Path> files;
+        final long totalBytes;
+        final AtomicLong copiedBytes = new AtomicLong();
+        final AtomicLong lastReport = new AtomicLong(System.nanoTime());
+
+        Progress(final String description, final List<Path> files, final long totalBytes) {
+            this.description = description;
+            this.files = files;
+            this.totalBytes = totalBytes;
+        }
+
+        void advance(final long bytes) {
+            final long copied = this.copiedBytes.addAndGet(bytes);
+            final long now = System.nanoTime();
+            final long last = this.lastReport.get();
+            if (now - last >= WorldFileOperations.PROGRESS_INTERVAL && this.lastReport.compareAndSet(last, now)) {
+                SpongeCommon.getLogger().info("{}: {}% ({} / {} MiB)", this.description, this.totalBytes == 0 ? 100 : copied * 100 / this.totalBytes,
+                        copied >> 20, this.totalBytes >> 20);
+            }
+        }
+
+        void complete() {
+            SpongeCommon.getLogger().info("{}: done, copied {} files ({} MiB)", this.description, this.files.size(), this.copiedBytes.get() >> 20);
+        }
+    }
+
+    private WorldFileOperations() {
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.common.util.CacheFileWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A compact, fixed-width table of the join data of every known player.
+ *
+ * <p>The file consists of a small header followed by one 32 byte record per
+ * player (unique id, first joined, last joined). The individual player files
+ * remain the source of truth; the index is only a cache of them and may be
+ * deleted at any time. The header records when the snapshot was taken so
+ * that player files saved afterwards can be detected and read on top of
+ * it.</p>
+ *
+ * <p>Changes made after the snapshot are appended to a separate log in
+ * batches of records, each batch stamped with the time its data was
+ * gathered. The log names the snapshot it belongs to and is discarded when
+ * the snapshot is rewritten, so a stale or damaged log is simply ignored and
+ * the affected player files are read again instead.</p>
+ */
+final class SpongePlayerDataIndex {
+
+    private static final int MAGIC = 0x53504449; // SPDI
+    private static final int LOG_MAGIC = 0x5350444C; // SPDL
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+    private static final int LOG_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int BATCH_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int RECORD_SIZE = Long.BYTES * 4;
+
+    private final Path file;
+    private final Path log;
+    // Set while loading, before anything is submitted to the cache file writer, and afterwards only by its tasks, which run in order
+    private long snapshotTime;
+    // Only set while loading, the manager counts the records appended afterwards itself
+    private int logRecords;
+
+    SpongePlayerDataIndex(final Path file) {
+        this.file = file;
+        this.log = file.resolveSibling(file.getFileName() + ".log");
+    }
+
+    boolean exists() {
+        return Files.isRegularFile(this.file);
+    }
+
+    /**
+     * Gets the amount of records in the log, as of the last read.
+     *
+     * @return The amount of records
+     */
+    int getLogRecords() {
+        return this.logRecords;
+    }
+
+    /**
+     * Reads every record of the index, followed by the complete batches of
+     * the log.
+     *
+     * @param consumer The consumer of the read records
+     * @return The time, in epoch millis, the data of the last applied
+     *     snapshot or batch was gathered at
+     * @throws IOException If the index could not be read or is malformed
+     */
+    long read(final Consumer<SpongePlayerData> consumer) throws IOException {
+        try (final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < SpongePlayerDataIndex.HEADER_SIZE || buffer.getInt() != SpongePlayerDataIndex.MAGIC) {
+                throw new IOException("Not a player data index: " + this.file);
+            }
+            final int version = buffer.getInt();
+            if (version != SpongePlayerDataIndex.VERSION) {
+                throw new IOException("Unsupported player data index version " + version + " in " + this.file);
+            }
+            final long snapshotTime = buffer.getLong();
+            final int count = buffer.getInt();
+            if (count < 0 || buffer.remaining() < (long) count * SpongePlayerDataIndex.RECORD_SIZE) {
+                throw new IOException("Truncated player data index: " + this.file);
+            }
+            for (int i = 0; i < count; i++) {
+                consumer.accept(SpongePlayerDataIndex.readRecord(buffer));
+            }
+            this.snapshotTime = snapshotTime;
+        }
+        return this.readLog(consumer);
+    }
+
+    private long readLog(final Consumer<SpongePlayerData> consumer) throws IOException {
+        this.logRecords = 0;
+        if (!Files.isRegularFile(this.log)) {
+            return this.snapshotTime;
+        }
+        long dataTime = this.snapshotTime;
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.log));
+        if (buffer.remaining() < SpongePlayerDataIndex.LOG_HEADER_SIZE
+                || buffer.getInt() != SpongePlayerDataIndex.LOG_MAGIC
+                || buffer.getInt() != SpongePlayerDataIndex.VERSION
+                || buffer.getLong() != this.snapshotTime) {
+            // Left over from an older snapshot, the player files cover it
+            Files.delete(this.log);
+            return dataTime;
+        }
+        int end = buffer.position();
+        while (buffer.remaining() >= SpongePlayerDataIndex.BATCH_HEADER_SIZE) {
+            final long batchTime = buffer.getLong();
+            final int count = buffer.getInt();
+            if (count < 0 || buffer.remaining() < (long) count * SpongePlayerDataIndex.RECORD_SIZE) {
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                consumer.accept(SpongePlayerDataIndex.readRecord(buffer));
+            }
+            this.logRecords += count;
+            dataTime = batchTime;
+            end = buffer.position();
+        }
+        if (end < buffer.limit()) {
+            // A batch cut short by a crash, the player files cover it. Drop it so new batches follow a complete one.
+            try (final FileChannel channel = FileChannel.open(this.log, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+        return dataTime;
+    }
+
+    /**
+     * Replaces the whole index with the given data through a temporary file,
+     * so a crash mid-write leaves the previous index intact, and discards the
+     * log of the previous snapshot.
+     *
+     * @param data The data of every known player
+     * @param snapshotTime The time, in epoch millis, the data was gathered at
+     * @throws IOException If the index could not be written
+     */
+    void writeAll(final Collection<SpongePlayerData> data, final long snapshotTime) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(SpongePlayerDataIndex.HEADER_SIZE + data.size() * SpongePlayerDataIndex.RECORD_SIZE);
+        buffer.putInt(SpongePlayerDataIndex.MAGIC).putInt(SpongePlayerDataIndex.VERSION).putLong(snapshotTime).putInt(data.size());
+        for (final SpongePlayerData entry : data) {
+            SpongePlayerDataIndex.writeRecord(buffer, entry);
+        }
+        buffer.flip();
+        CacheFileWriter.writeAtomically(this.file, out -> {
+            final WritableByteChannel channel = Channels.newChannel(out);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+        this.snapshotTime = snapshotTime;
+        Files.deleteIfExists(this.log);
+    }
+
+    /**
+     * Appends a batch of changed records to the log of the current snapshot.
+     *
+     * @param data The data of the changed players
+     * @param dataTime The time, in epoch millis, the data was gathered at
+     * @throws IOException If the log could not be written
+     */
+    void append(final Collection<SpongePlayerData> data, final long dataTime) throws IOException {
+        final boolean exists = Files.isRegularFile(this.log);
+        final ByteBuffer buffer = ByteBuffer.allocate((exists ? 0 : SpongePlayerDataIndex.LOG_HEADER_SIZE)
+                + SpongePlayerDataIndex.BATCH_HEADER_SIZE + data.size() * SpongePlayerDataIndex.RECORD_SIZE);
+        if (!exists) {
+            buffer.putInt(SpongePlayerDataIndex.LOG_MAGIC).putInt(SpongePlayerDataIndex.VERSION).putLong(this.snapshotTime);
+        }
+        buffer.putLong(dataTime).putInt(data.size());
+        for (final SpongePlayerData entry : data) {
+            SpongePlayerDataIndex.writeRecord(buffer, entry);
+        }
+        buffer.flip();
+        try (final FileChannel channel = FileChannel.open(this.log, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static SpongePlayerData readRecord(final ByteBuffer buffer) {
+        final SpongePlayerData data = new SpongePlayerData();
+        data.setUniqueId(new UUID(buffer.getLong(), buffer.getLong()));
+        data.setFirstJoined(buffer.getLong());
+        data.setLastJoined(buffer.getLong());
+        return data;
+    }
+
+    private static void writeRecord(final ByteBuffer buffer, final SpongePlayerData data) {
+        buffer.putLong(data.getUniqueId().getMostSignificantBits())
+                .putLong(data.getUniqueId().getLeastSignificantBits())
+                .putLong(data.getFirstJoined())
+                .putLong(data.getLastJoined());
+    }
+}
@@ -27,14 +27,17 @@
 
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.CacheFileWriter;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.DirectoryIteratorException;
@@ -42,23 +45,37 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import javax.annotation.Nullable;
 
 public final class SpongePlayerDataManager {
 
     private static final String SPONGE_DATA = "sponge";
+    private static final String INDEX_FILE = "sponge_players.idx";
+    // Allows for coarse file system timestamps when comparing against the index snapshot time
+    private static final long MODIFIED_TIME_SLACK = 2000L;
+    // The index is rewritten once its log holds more records than this, or than there are players
+    private static final int MIN_COMPACTION_RECORDS = 4096;
     private final Server server;
     private final Map<UUID, SpongePlayerData> playerDataByUniqueId;
     @org.checkerframework.checker.nullness.qual.Nullable private Path playersDirectory = null;
+    @org.checkerframework.checker.nullness.qual.Nullable private SpongePlayerDataIndex index = null;
+    @org.checkerframework.checker.nullness.qual.Nullable private CompletableFuture<Void> rebuild = null;
+    private final Set<UUID> dirtyPlayers = new HashSet<>();
+    private int logRecords;
 
     public SpongePlayerDataManager(final Server server) {
         this.server = server;
@@ -70,39 +87,149 @@ public void load() {
             this.playersDirectory = ((SpongeWorldManager) this.server.getWorldManager()).getDefaultWorldDirectory().resolve("data").resolve(
                 SpongePlayerDataManager.SPONGE_DATA);
             Files.createDirectories(this.playersDirectory);
+            // Kept outside of the players directory so writing it doesn't touch the directory's modified time
+            this.index = new SpongePlayerDataIndex(this.playersDirectory.resolveSibling(SpongePlayerDataManager.INDEX_FILE));
 
-            final List<Path> playerFiles = new ArrayList<>();
-            try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.playersDirectory, "*.{dat}")) {
-                for (final Path entry : stream) {
-                    playerFiles.add(entry);
+            if (this.index.exists()) {
+                try {
+                    final long dataTime = this.index.read(data -> this.playerDataByUniqueId.put(data.getUniqueId(), data));
+                    this.logRecords = this.index.getLogRecords();
+                    this.readChangedPlayerFiles(dataTime);
+                    return;
+                } catch (final IOException e) {
+                    SpongeCommon.getLogger().error("Failed to read the player data index, rebuilding it from the individual player files", e);
+                    this.playerDataByUniqueId.clear();
                 }
-            } catch (final DirectoryIteratorException e) {
-                SpongeCommon.getLogger().error("Something happened when trying to gather all player files", e);
             }
-            for (final Path playerFile : playerFiles) {
-                if (Files.isReadable(playerFile)) {
-                    final CompoundNBT compound;
-
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = CompressedStreamTools.readCompressed(stream);
-                    } catch (final Exception e) {
-                        throw new RuntimeException("Failed to decompress playerdata for playerfile " + playerFile, e);
-                    }
-
-                    if (compound.isEmpty()) {
-                        throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
-                    }
-
-                    final DataContainer container = NBTTranslator.INSTANCE.translateFrom(compound);
-                    final SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
+
+            this.rebuildIndex();
+        } catch (final Exception ex) {
+            throw new RuntimeException("Encountered an exception while creating the player data handler!", ex);
+        }
+    }
+
+    /**
+     * Reads the player files saved after the index data was gathered, for
+     * example when the server stopped before the index was written again.
+     * Saving a player file replaces it, which updates the modified time of
+     * the directory, so the directory only needs to be listed if that
+     * happened after the snapshot.
+     */
+    private void readChangedPlayerFiles(final long dataTime) throws IOException {
+        final long threshold = dataTime - SpongePlayerDataManager.MODIFIED_TIME_SLACK;
+        if (Files.getLastModifiedTime(this.playersDirectory).toMillis() < threshold) {
+            return;
+        }
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.playersDirectory, "*.{dat}")) {
+            for (final Path entry : stream) {
+                if (Files.getLastModifiedTime(entry).toMillis() < threshold) {
+                    continue;
+                }
+                final @Nullable SpongePlayerData data = SpongePlayerDataManager.readPlayerFile(entry);
+                if (data != null) {
                     this.playerDataByUniqueId.put(data.getUniqueId(), data);
+                    this.dirtyPlayers.add(data.getUniqueId());
                 }
             }
-            playerFiles.clear();
+        } catch (final DirectoryIteratorException e) {
+            SpongeCommon.getLogger().error("Something happened when trying to gather all player files", e);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the individual player files. The files are read
+     * in parallel off the main thread and merged with any data that was set
+     * while the rebuild was running. Merging replaces the data instead of
+     * changing it, so data is never changed once it is in the map. The index
+     * is written from the main thread once the rebuild completes, as that is
+     * where the log and the dirty players are tracked.
+     */
+    private void rebuildIndex() {
+        final long snapshotTime = System.currentTimeMillis();
+        final List<Path> playerFiles = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.playersDirectory, "*.{dat}")) {
+            for (final Path entry : stream) {
+                playerFiles.add(entry);
+            }
+        } catch (final IOException | DirectoryIteratorException e) {
+            SpongeCommon.getLogger().error("Something happened when trying to gather all player files", e);
+        }
 
-        } catch (final Exception ex) {
-            throw new RuntimeException("Encountered an exception while creating the player data handler!", ex);
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), p -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("Sponge - Player Data Index Rebuild - " + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        this.rebuild = CompletableFuture.runAsync(() -> playerFiles.parallelStream()
+                .map(SpongePlayerDataManager::readPlayerFile)
+                .filter(Objects::nonNull)
+                .forEach(this::mergePlayerData), pool)
+            .whenCompleteAsync((v, t) -> {
+                pool.shutdown();
+                if (t != null) {
+                    SpongeCommon.getLogger().error("Failed to rebuild the player data index", t);
+                    return;
+                }
+                SpongeCommon.getLogger().info("Rebuilt the player data index from {} player files", playerFiles.size());
+                this.writeIndex(snapshotTime, true);
+            }, (MinecraftServer) this.server);
+    }
+
+    /**
+     * Rewrites the whole index in the background.
+     *
+     * @param snapshotTime The time, in epoch millis, the data was gathered at
+     * @param dropMissingFiles Whether to leave out the players whose file no
+     *     longer exists. Their data is kept in memory, a player that saves
+     *     later is appended to the log again.
+     */
+    private void writeIndex(final long snapshotTime, final boolean dropMissingFiles) {
+        final SpongePlayerDataIndex index = this.index;
+        final Path playersDirectory = this.playersDirectory;
+        this.logRecords = 0;
+        CacheFileWriter.submit("write the player data index", () -> {
+            final List<SpongePlayerData> data = new ArrayList<>(this.playerDataByUniqueId.values());
+            if (dropMissingFiles) {
+                data.removeIf(entry -> !Files.exists(playersDirectory.resolve(entry.getUniqueId() + ".dat")));
+            }
+            index.writeAll(data, snapshotTime);
+        });
+    }
+
+    private static @Nullable SpongePlayerData readPlayerFile(final Path playerFile) {
+        if (!Files.isReadable(playerFile)) {
+            return null;
         }
+        final CompoundNBT compound;
+        try (final InputStream stream = Files.newInputStream(playerFile)) {
+            compound = CompressedStreamTools.readCompressed(stream);
+        } catch (final Exception e) {
+            SpongeCommon.getLogger().error("Failed to decompress playerdata for playerfile {}", playerFile, e);
+            return null;
+        }
+
+        if (compound.isEmpty()) {
+            SpongeCommon.getLogger().error("Failed to decompress player data within [{}]!", playerFile);
+            return null;
+        }
+
+        final DataContainer container = NBTTranslator.INSTANCE.translateFrom(compound);
+        return container.getSerializable(DataQuery.of(), SpongePlayerData.class).orElse(null);
+    }
+
+    private void mergePlayerData(final SpongePlayerData data) {
+        this.playerDataByUniqueId.merge(data.getUniqueId(), data, (current, read) ->
+            SpongePlayerDataManager.create(current.getUniqueId(), Math.min(current.getFirstJoined(), read.getFirstJoined()),
+                Math.max(current.getLastJoined(), read.getLastJoined())));
+    }
+
+    private static SpongePlayerData create(final UUID uniqueId, final long firstJoined, final long lastJoined) {
+        final SpongePlayerData data = new SpongePlayerData();
+        data.setUniqueId(uniqueId);
+        data.setFirstJoined(firstJoined);
+        data.setLastJoined(lastJoined);
+        return data;
     }
 
     public void readPlayerData(final CompoundNBT compound, @Nullable UUID playerUniqueId, @Nullable Instant creation) {
@@ -148,6 +275,7 @@ public void saveSpongePlayerData(final UUID uniqueId) {
         @Nullable final SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
         if (data != null) {
             this.saveFile(uniqueId.toString(), this.createCompoundFor(data));
+            this.dirtyPlayers.add(uniqueId);
         } else {
             SpongeCommon.getLogger().error("Couldn't find a player data for the uuid: " + uniqueId.toString());
         }
@@ -164,15 +292,44 @@ private void saveFile(final String id, final CompoundNBT compound) {
 
             final Path finalDatPath = this.playersDirectory.resolve(id + ".dat");
             final Path newDatPath = this.playersDirectory.resolve(id + ".dat.tmp");
-            try (final OutputStream stream = Files.newOutputStream(newDatPath, StandardOpenOption.CREATE)) {
+            try (final OutputStream stream = Files.newOutputStream(newDatPath)) {
                 CompressedStreamTools.writeCompressed(compound, stream);
             }
-            Files.move(newDatPath, finalDatPath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (Exception e) {
+            Files.move(newDatPath, finalDatPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final Exception e) {
             SpongeCommon.getLogger().error("Failed to save player data for [{}]!", id, e);
         }
     }
 
+    /**
+     * Appends the data of the players saved since the last flush to the
+     * index log in the background, or rewrites the whole index once the log
+     * has grown too large. While a rebuild is still running this does
+     * nothing, as the rebuild writes the index once it completes.
+     */
+    public void flush() {
+        if (this.index == null || this.dirtyPlayers.isEmpty() || (this.rebuild != null && !this.rebuild.isDone())) {
+            return;
+        }
+        final long dataTime = System.currentTimeMillis();
+        if (this.logRecords + this.dirtyPlayers.size() > Math.max(SpongePlayerDataManager.MIN_COMPACTION_RECORDS, this.playerDataByUniqueId.size())) {
+            this.dirtyPlayers.clear();
+            this.writeIndex(dataTime, false);
+            return;
+        }
+        final List<SpongePlayerData> changed = new ArrayList<>(this.dirtyPlayers.size());
+        for (final UUID uniqueId : this.dirtyPlayers) {
+            final @Nullable SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
+            if (data != null) {
+                changed.add(data);
+            }
+        }
+        this.dirtyPlayers.clear();
+        this.logRecords += changed.size();
+        final SpongePlayerDataIndex index = this.index;
+        CacheFileWriter.submit("append to the player data index", () -> index.append(changed, dataTime));
+    }
+
     public void setPlayerInfo(final UUID playerUniqueId, final Instant join, final Instant last) {
         if (playerUniqueId == null) {
             throw new IllegalArgumentException("Player unique id cannot be null!");
@@ -184,14 +341,8 @@ public void setPlayerInfo(final UUID playerUniqueId, final Instant join, final I
             throw new IllegalArgumentException("Last joined date cannot be null!");
         }
 
-        SpongePlayerData data = this.playerDataByUniqueId.get(playerUniqueId);
-        if (data == null) {
-            data = new SpongePlayerData();
-            data.setUniqueId(playerUniqueId);
-        }
-        data.setFirstJoined(join.toEpochMilli());
-        data.setLastJoined(last.toEpochMilli());
-        this.playerDataByUniqueId.put(playerUniqueId, data);
+        // Replaced rather than changed, the index may be writing the current data in the background
+        this.playerDataByUniqueId.put(playerUniqueId, SpongePlayerDataManager.create(playerUniqueId, join.toEpochMilli(), last.toEpochMilli()));
     }
 
     public Optional<Instant> getFirstJoined(final UUID uniqueId) {
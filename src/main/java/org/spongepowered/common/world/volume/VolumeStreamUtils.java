@@ -28,8 +28,10 @@
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeContainer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkPrimerWrapper;
 import net.minecraft.world.chunk.ChunkSection;
@@ -43,6 +45,7 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.accessor.world.biome.BiomeContainerAccessor;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
@@ -176,16 +179,26 @@ default TriFunction<A, B, C, Out> asTri(final D d) {
     }
 
     private static QuadFunction<IChunk, ChunkSection, BlockPos, IWorldReader, Biome> chunkSectionBiomeGetter() {
+        final int widthBits = BiomeContainerAccessor.accessor$WIDTH_BITS();
         return ((chunk, chunkSection, pos, world) -> {
-            if (chunk.getBiomes() == null) {
+            // Noise biomes are stored per 4x4x4 cell, addressed by quarter coordinates
+            final int quartX = pos.getX() >> 2;
+            final int quartY = pos.getY() >> 2;
+            final int quartZ = pos.getZ() >> 2;
+            final @Nullable BiomeContainer container = chunk.getBiomes();
+            if (container == null) {
                 if (chunk instanceof Chunk) {
-                    return ((Chunk) chunk).getLevel().getNoiseBiome(pos.getX(), pos.getY(), pos.getZ());
+                    return ((Chunk) chunk).getLevel().getNoiseBiome(quartX, quartY, quartZ);
                 } else {
                     // Failover to use the World
-                    return world.getUncachedNoiseBiome(pos.getX(), pos.getY(), pos.getZ());
+                    return world.getUncachedNoiseBiome(quartX, quartY, quartZ);
                 }
             }
-            return chunk.getBiomes().getNoiseBiome(pos.getX(), pos.getY(), pos.getZ());
+            // Read the array directly rather than through getNoiseBiome for each position
+            final Biome[] biomes = ((BiomeContainerAccessor) container).accessor$biomes();
+            return biomes[MathHelper.clamp(quartY, 0, BiomeContainer.VERTICAL_MASK) << widthBits + widthBits
+                | (quartZ & BiomeContainer.HORIZONTAL_MASK) << widthBits
+                | quartX & BiomeContainer.HORIZONTAL_MASK];
         }
         );
     }
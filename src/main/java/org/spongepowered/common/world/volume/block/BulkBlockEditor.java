@@ -0,0 +1,270 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.block;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.play.server.SChunkDataPacket;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.gen.Heightmap;
+import net.minecraft.world.lighting.WorldLightManager;
+import net.minecraft.world.server.ServerWorld;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.entity.BlockEntity;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
+import org.spongepowered.common.bridge.block.BlockStateBridge;
+import org.spongepowered.common.world.schematic.PaletteRemapCache;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Writes large block regions straight into the {@link ChunkSection}s of a
+ * world, bypassing the phase tracker and the per block transactions, block
+ * updates and physics of {@link ServerWorld#setBlock(BlockPos, BlockState, int)}.
+ *
+ * <p>No events are thrown for the individual blocks. Light is only checked
+ * where the light properties of a block changed, heightmaps are rebuilt once
+ * per chunk and each chunk is sent again once, containing only the edited
+ * sections. Points of interest are updated like for any other block change.
+ * Block entities are kept when the block they belong to stays the same.</p>
+ *
+ * <p>Must be called on the main thread.</p>
+ */
+public final class BulkBlockEditor {
+
+    private static final ToIntFunction<org.spongepowered.api.block.BlockState> GLOBAL_STATE_ID =
+            state -> Block.BLOCK_STATE_REGISTRY.getId((BlockState) state);
+
+    private BulkBlockEditor() {}
+
+    /**
+     * Fills the region with the block state.
+     *
+     * @param world The world
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param state The state to fill with
+     * @param captureUndo Whether to capture the replaced contents
+     * @return The replaced contents, if captured
+     */
+    public static @Nullable BulkEditUndo fill(final ServerWorld world, final Vector3i min, final Vector3i max,
+            final org.spongepowered.api.block.BlockState state, final boolean captureUndo) {
+        Objects.requireNonNull(state, "state");
+        final BlockState nativeState = (BlockState) state;
+        return BulkBlockEditor.apply(world, min.min(max), min.max(max), (x, y, z) -> nativeState, captureUndo);
+    }
+
+    /**
+     * Pastes the blocks and block entities of the volume, with the minimum
+     * of the volume placed at the origin. The entity archetypes and biomes of
+     * the volume are not applied, the undo data covers blocks and block
+     * entities.
+     *
+     * @param world The world
+     * @param origin The position to place the minimum of the volume at
+     * @param volume The volume
+     * @param captureUndo Whether to capture the replaced contents
+     * @return The replaced contents, if captured
+     */
+    public static @Nullable BulkEditUndo paste(final ServerWorld world, final Vector3i origin, final ArchetypeVolume volume,
+            final boolean captureUndo) {
+        final Vector3i offset = volume.getBlockMin().sub(origin);
+        final Vector3i min = origin;
+        final Vector3i max = origin.add(volume.getBlockMax().sub(volume.getBlockMin()));
+        final StateSource source;
+        if (volume instanceof SpongeArchetypeVolume) {
+            // Map the palette ids of the volume straight to global state ids, resolving each palette entry once
+            final SpongeArchetypeVolume archetypeVolume = (SpongeArchetypeVolume) volume;
+            final int[] globalIds = PaletteRemapCache.globalIds(archetypeVolume.getBlockPalette(), BulkBlockEditor.GLOBAL_STATE_ID);
+            source = (x, y, z) -> {
+                final int id = archetypeVolume.getBlockPaletteId(x + offset.getX(), y + offset.getY(), z + offset.getZ());
+                final int globalId = id < globalIds.length ? globalIds[id] : -1;
+                return globalId == -1 ? null : Block.BLOCK_STATE_REGISTRY.byId(globalId);
+            };
+        } else {
+            source = (x, y, z) -> (BlockState) volume.getBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ());
+        }
+        final @Nullable BulkEditUndo undo = BulkBlockEditor.apply(world, min, max, source, captureUndo);
+
+        for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : volume.getBlockEntityArchetypes().entrySet()) {
+            entry.getValue().apply(ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, entry.getKey().sub(offset)));
+        }
+        return undo;
+    }
+
+    /**
+     * Restores the blocks and block entities captured by a previous fill or
+     * paste.
+     *
+     * @param world The world
+     * @param undo The captured contents
+     */
+    public static void restore(final ServerWorld world, final BulkEditUndo undo) {
+        final ArrayMutableBlockBuffer blocks = undo.getBlocks();
+        final int[] globalIds = PaletteRemapCache.globalIds(blocks.getPalette(), BulkBlockEditor.GLOBAL_STATE_ID);
+        BulkBlockEditor.apply(world, blocks.getBlockMin(), blocks.getBlockMax(), (x, y, z) -> {
+            final int id = blocks.getPaletteId(x, y, z);
+            return id < globalIds.length && globalIds[id] != -1 ? Block.BLOCK_STATE_REGISTRY.byId(globalIds[id]) : null;
+        }, false);
+
+        for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : undo.getBlockEntities().entrySet()) {
+            entry.getValue().apply(ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, entry.getKey()));
+        }
+    }
+
+    private static @Nullable BulkEditUndo apply(final ServerWorld world, final Vector3i min, final Vector3i max,
+            final StateSource source, final boolean captureUndo) {
+        if (!world.getServer().isSameThread()) {
+            throw new IllegalStateException("Bulk block edits must be done on the main thread!");
+        }
+        if (min.getY() < 0 || max.getY() > 255) {
+            throw new IllegalArgumentException("The region " + min + " to " + max + " is outside of the build height!");
+        }
+
+        final @Nullable BulkEditUndo undo = captureUndo ? new BulkEditUndo(min, max) : null;
+        final WorldLightManager lightEngine = world.getChunkSource().getLightEngine();
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int cx = min.getX() >> 4; cx <= max.getX() >> 4; cx++) {
+            for (int cz = min.getZ() >> 4; cz <= max.getZ() >> 4; cz++) {
+                final Chunk chunk = world.getChunk(cx, cz);
+                final ChunkSection[] sections = chunk.getSections();
+                int editedSections = 0;
+                if (undo != null) {
+                    BulkBlockEditor.captureBlockEntities(chunk, min, max, undo);
+                }
+
+                for (int sy = min.getY() >> 4; sy <= max.getY() >> 4; sy++) {
+                    ChunkSection section = sections[sy];
+                    final boolean wasEmpty = ChunkSection.isEmpty(section);
+                    boolean changed = false;
+
+                    final int minX = Math.max(min.getX(), cx << 4), maxX = Math.min(max.getX(), (cx << 4) + 15);
+                    final int minY = Math.max(min.getY(), sy << 4), maxY = Math.min(max.getY(), (sy << 4) + 15);
+                    final int minZ = Math.max(min.getZ(), cz << 4), maxZ = Math.min(max.getZ(), (cz << 4) + 15);
+                    for (int y = minY; y <= maxY; y++) {
+                        for (int z = minZ; z <= maxZ; z++) {
+                            for (int x = minX; x <= maxX; x++) {
+                                final BlockState state = source.get(x, y, z);
+                                if (state == null) {
+                                    // The block stays as it is, but restoring must not turn it into air
+                                    if (undo != null && section != Chunk.EMPTY_SECTION) {
+                                        undo.getBlocks().setBlock(x, y, z,
+                                                (org.spongepowered.api.block.BlockState) section.getBlockState(x & 15, y & 15, z & 15));
+                                    }
+                                    continue;
+                                }
+                                if (section == Chunk.EMPTY_SECTION) {
+                                    if (state.isAir()) {
+                                        continue;
+                                    }
+                                    section = new ChunkSection(sy << 4);
+                                    sections[sy] = section;
+                                }
+                                final BlockState old = section.setBlockState(x & 15, y & 15, z & 15, state, false);
+                                if (undo != null) {
+                                    undo.getBlocks().setBlock(x, y, z, (org.spongepowered.api.block.BlockState) old);
+                                }
+                                if (old == state) {
+                                    continue;
+                                }
+                                changed = true;
+
+                                pos.set(x, y, z);
+                                final boolean sameBlock = old.getBlock() == state.getBlock();
+                                if (((BlockStateBridge) old).bridge$hasTileEntity() && !sameBlock) {
+                                    chunk.removeBlockEntity(pos);
+                                }
+                                if (((BlockStateBridge) state).bridge$hasTileEntity()) {
+                                    final @Nullable TileEntity existing = sameBlock ? chunk.getBlockEntity(pos, Chunk.CreateEntityType.CHECK) : null;
+                                    if (existing != null) {
+                                        existing.clearCache();
+                                    } else {
+                                        chunk.getBlockEntity(pos, Chunk.CreateEntityType.IMMEDIATE);
+                                    }
+                                }
+                                world.onBlockStateChange(pos, old, state);
+                                if (old.getLightBlock(world, pos) != state.getLightBlock(world, pos)
+                                        || old.getLightEmission() != state.getLightEmission()
+                                        || old.useShapeForLightOcclusion() || state.useShapeForLightOcclusion()) {
+                                    lightEngine.checkBlock(pos);
+                                }
+                            }
+                        }
+                    }
+
+                    if (changed) {
+                        editedSections |= 1 << sy;
+                        final boolean isEmpty = ChunkSection.isEmpty(section);
+                        if (wasEmpty != isEmpty) {
+                            lightEngine.updateSectionStatus(SectionPos.of(cx, sy, cz), isEmpty);
+                        }
+                    }
+                }
+
+                if (editedSections != 0) {
+                    Heightmap.primeHeightmaps(chunk, EnumSet.of(Heightmap.Type.MOTION_BLOCKING, Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                            Heightmap.Type.OCEAN_FLOOR, Heightmap.Type.WORLD_SURFACE));
+                    chunk.setUnsaved(true);
+                    final SChunkDataPacket packet = new SChunkDataPacket(chunk, editedSections);
+                    world.getChunkSource().chunkMap.getPlayers(new ChunkPos(cx, cz), false)
+                            .forEach(player -> player.connection.send(packet));
+                }
+            }
+        }
+        return undo;
+    }
+
+    private static void captureBlockEntities(final Chunk chunk, final Vector3i min, final Vector3i max, final BulkEditUndo undo) {
+        for (final TileEntity tileEntity : chunk.getBlockEntities().values()) {
+            final BlockPos tilePos = tileEntity.getBlockPos();
+            if (tilePos.getX() < min.getX() || tilePos.getY() < min.getY() || tilePos.getZ() < min.getZ()
+                    || tilePos.getX() > max.getX() || tilePos.getY() > max.getY() || tilePos.getZ() > max.getZ()) {
+                continue;
+            }
+            undo.addBlockEntity(new Vector3i(tilePos.getX(), tilePos.getY(), tilePos.getZ()),
+                    BlockEntityArchetype.builder().blockEntity((BlockEntity) tileEntity).build());
+        }
+    }
+
+    @FunctionalInterface
+    private interface StateSource {
+
+        @Nullable BlockState get(int x, int y, int z);
+    }
+}
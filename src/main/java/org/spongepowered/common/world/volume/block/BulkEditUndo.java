@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.block;
+
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The contents of a region as they were before a bulk edit, restorable with
+ * {@link BulkBlockEditor#restore(net.minecraft.world.server.ServerWorld, BulkEditUndo)}.
+ *
+ * <p>Holds the state of every block in the region and the data of every
+ * block entity that was in it.</p>
+ */
+public final class BulkEditUndo {
+
+    private final ArrayMutableBlockBuffer blocks;
+    private final Map<Vector3i, BlockEntityArchetype> blockEntities = new HashMap<>();
+
+    BulkEditUndo(final Vector3i min, final Vector3i max) {
+        this.blocks = new ArrayMutableBlockBuffer(min, max.sub(min).add(Vector3i.ONE));
+    }
+
+    /**
+     * Gets the states of the blocks in the region.
+     *
+     * @return The states
+     */
+    public ArrayMutableBlockBuffer getBlocks() {
+        return this.blocks;
+    }
+
+    /**
+     * Gets the block entities that were in the region, by their world position.
+     *
+     * @return The block entities
+     */
+    public Map<Vector3i, BlockEntityArchetype> getBlockEntities() {
+        return Collections.unmodifiableMap(this.blockEntities);
+    }
+
+    void addBlockEntity(final Vector3i position, final BlockEntityArchetype archetype) {
+        this.blockEntities.put(position, archetype);
+    }
+}
@@ -189,6 +189,10 @@ public Palette<BlockState, BlockType> getBlockPalette() {
         return this.blocks.getPalette();
     }
 
+    public int getBlockPaletteId(final int x, final int y, final int z) {
+        return this.blocks.getPaletteId(x, y, z);
+    }
+
     public Palette<Biome, Biome> getBiomePalette() {
         return this.biomes.getPalette();
     }
@@ -51,6 +51,8 @@ public final class ByteArrayMutableBiomeBuffer extends AbstractBiomeBuffer imple
 
     private final byte[] biomes;
     private final Palette.Mutable<Biome, Biome> palette;
+    // Resolved biomes by palette id, resolving through the palette needs a registry lookup
+    private Biome[] resolved = new Biome[0];
 
     public ByteArrayMutableBiomeBuffer(final Palette<Biome, Biome> palette, final Vector3i start, final Vector3i size) {
         this(palette, new byte[size.getX() * size.getY() * size.getZ()], start, size);
@@ -66,20 +68,64 @@ public ByteArrayMutableBiomeBuffer(final Palette<Biome, Biome> palette, final by
     public boolean setBiome(final int x, final int y, final int z, final Biome biome) {
         this.checkRange(x, y, z);
 
-        this.biomes[this.getIndex(x, y, z)] = (byte) this.palette.getOrAssign(biome);
+        this.biomes[this.getIndex(x, y, z)] = (byte) this.getOrAssign(biome);
         return true;
     }
 
+    /**
+     * Sets the biome of every position in the region.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param biome The biome
+     */
+    public void fill(final Vector3i min, final Vector3i max, final Biome biome) {
+        this.checkRange(min.getX(), min.getY(), min.getZ());
+        this.checkRange(max.getX(), max.getY(), max.getZ());
+
+        final byte id = (byte) this.getOrAssign(biome);
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                // Positions along the y axis are stored next to each other
+                Arrays.fill(this.biomes, this.getIndex(x, min.getY(), z), this.getIndex(x, max.getY(), z) + 1, id);
+            }
+        }
+    }
+
     @Override
     public Biome getBiome(final int x, final int y, final int z) {
         this.checkRange(x, y, z);
 
-        final byte biomeId = this.biomes[this.getIndex(x, y, z)];
-        return this.palette.get(biomeId & 255, Sponge.getServer().registries())
-            .orElseGet(Sponge.getServer().registries()
+        return this.resolve(this.biomes[this.getIndex(x, y, z)] & 255);
+    }
+
+    private int getOrAssign(final Biome biome) {
+        final int id = this.palette.getOrAssign(biome);
+        this.cache(id, biome);
+        return id;
+    }
+
+    private Biome resolve(final int id) {
+        if (id < this.resolved.length) {
+            final @Nullable Biome biome = this.resolved[id];
+            if (biome != null) {
+                return biome;
+            }
+        }
+        final Biome biome = this.palette.get(id, Sponge.getServer().registries())
+            .orElseGet(() -> Sponge.getServer().registries()
                 .registry(RegistryTypes.BIOME)
                 .value(Biomes.OCEAN)
             );
+        this.cache(id, biome);
+        return biome;
+    }
+
+    private void cache(final int id, final Biome biome) {
+        if (id >= this.resolved.length) {
+            this.resolved = Arrays.copyOf(this.resolved, Math.max(id + 1, this.resolved.length * 2));
+        }
+        this.resolved[id] = biome;
     }
 
     @Override
@@ -123,14 +169,7 @@ public VolumeStream<ByteArrayMutableBiomeBuffer, Biome> getBiomeStream(
         final Stream<VolumeElement<ByteArrayMutableBiomeBuffer, Biome>> stateStream = IntStream.range(blockMin.getX(), blockMax.getX() + 1)
             .mapToObj(x -> IntStream.range(blockMin.getZ(), blockMax.getZ() + 1)
                 .mapToObj(z -> IntStream.range(blockMin.getY(), blockMax.getY() + 1)
-                    .mapToObj(y -> VolumeElement.of(this, () -> {
-                        final byte biomeId = biomes[this.getIndex(x, y, z)];
-                        return this.palette.get(biomeId & 255, Sponge.getServer().registries())
-                            .orElseGet(() -> Sponge.getServer().registries()
-                                .registry(RegistryTypes.BIOME)
-                                .value(Biomes.OCEAN)
-                            );
-                    }, new Vector3i(x, y, z)))
+                    .mapToObj(y -> VolumeElement.of(this, () -> this.resolve(biomes[this.getIndex(x, y, z)] & 255), new Vector3i(x, y, z)))
                 ).flatMap(Function.identity())
             ).flatMap(Function.identity());
         return new SpongeVolumeStream<>(stateStream, () -> this);
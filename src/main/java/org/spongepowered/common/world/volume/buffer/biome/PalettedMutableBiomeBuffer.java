@@ -0,0 +1,251 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.biome;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.util.BitArray;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.biome.Biomes;
+import org.spongepowered.api.world.volume.biome.BiomeVolume;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.world.volume.SpongeVolumeStream;
+import org.spongepowered.common.world.volume.VolumeStreamUtils;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Mutable biome volume storing biomes at the 4x4x4 resolution of the noise
+ * biomes of a world. Each cell holds an id into a local palette, bit packed
+ * into as few bits as the palette needs.
+ *
+ * <p>Setting the biome of a position sets it for the whole 4x4x4 cell that
+ * contains the position, cells are aligned to the world grid. Compared to the
+ * {@link ObjectArrayMutableBiomeBuffer} this uses about a hundredth of the
+ * memory for regions with few biomes, and reading a biome needs no registry
+ * lookup.</p>
+ */
+public final class PalettedMutableBiomeBuffer extends AbstractBiomeBuffer implements BiomeVolume.Mutable<PalettedMutableBiomeBuffer> {
+
+    private final int cellMinX;
+    private final int cellMinY;
+    private final int cellMinZ;
+    private final int cellsX;
+    private final int cellsZ;
+    private final int cellCount;
+    private final List<Biome> palette = new ArrayList<>();
+    private final Object2IntMap<Biome> ids = new Object2IntOpenHashMap<>();
+    private BitArray storage;
+
+    public PalettedMutableBiomeBuffer(final Vector3i start, final Vector3i size) {
+        this(start, size, Sponge.getServer().registries().registry(RegistryTypes.BIOME).value(Biomes.OCEAN));
+    }
+
+    public PalettedMutableBiomeBuffer(final Vector3i start, final Vector3i size, final Biome defaultBiome) {
+        super(start, size);
+        final Vector3i end = start.add(size).sub(Vector3i.ONE);
+        this.cellMinX = start.getX() >> 2;
+        this.cellMinY = start.getY() >> 2;
+        this.cellMinZ = start.getZ() >> 2;
+        this.cellsX = (end.getX() >> 2) - this.cellMinX + 1;
+        this.cellsZ = (end.getZ() >> 2) - this.cellMinZ + 1;
+        this.cellCount = this.cellsX * this.cellsZ * ((end.getY() >> 2) - this.cellMinY + 1);
+        this.ids.defaultReturnValue(-1);
+        this.palette.add(Objects.requireNonNull(defaultBiome, "defaultBiome"));
+        this.ids.put(defaultBiome, 0);
+        this.storage = new BitArray(1, this.cellCount);
+    }
+
+    private int getCellIndex(final int x, final int y, final int z) {
+        return (((y >> 2) - this.cellMinY) * this.cellsZ + (z >> 2) - this.cellMinZ) * this.cellsX + (x >> 2) - this.cellMinX;
+    }
+
+    private int getOrAssign(final Biome biome) {
+        final int id = this.ids.getInt(biome);
+        if (id != -1) {
+            return id;
+        }
+        final int next = this.palette.size();
+        if (next >= 1 << this.storage.getBits()) {
+            // Repack into one more bit per cell
+            final BitArray resized = new BitArray(MathHelper.ceillog2(next + 1), this.cellCount);
+            for (int i = 0; i < this.cellCount; i++) {
+                resized.set(i, this.storage.get(i));
+            }
+            this.storage = resized;
+        }
+        this.palette.add(biome);
+        this.ids.put(biome, next);
+        return next;
+    }
+
+    @Override
+    public Biome getBiome(final int x, final int y, final int z) {
+        this.checkRange(x, y, z);
+        return this.palette.get(this.storage.get(this.getCellIndex(x, y, z)));
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    public net.minecraft.world.biome.Biome getNativeBiome(final int x, final int y, final int z) {
+        return (net.minecraft.world.biome.Biome) (Object) this.getBiome(x, y, z);
+    }
+
+    @Override
+    public boolean setBiome(final int x, final int y, final int z, final Biome biome) {
+        Objects.requireNonNull(biome, "biome");
+        this.checkRange(x, y, z);
+        this.storage.set(this.getCellIndex(x, y, z), this.getOrAssign(biome));
+        return true;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    public boolean setBiome(final BlockPos pos, final net.minecraft.world.biome.Biome biome) {
+        Objects.requireNonNull(pos, "pos");
+        return this.setBiome(pos.getX(), pos.getY(), pos.getZ(), (Biome) (Object) Objects.requireNonNull(biome, "biome"));
+    }
+
+    /**
+     * Sets the biome of every cell intersecting the region.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param biome The biome
+     */
+    public void fill(final Vector3i min, final Vector3i max, final Biome biome) {
+        Objects.requireNonNull(biome, "biome");
+        this.checkRange(min.getX(), min.getY(), min.getZ());
+        this.checkRange(max.getX(), max.getY(), max.getZ());
+        final int id = this.getOrAssign(biome);
+        for (int y = min.getY() >> 2; y <= max.getY() >> 2; y++) {
+            for (int z = min.getZ() >> 2; z <= max.getZ() >> 2; z++) {
+                final int row = ((y - this.cellMinY) * this.cellsZ + z - this.cellMinZ) * this.cellsX - this.cellMinX;
+                for (int x = min.getX() >> 2; x <= max.getX() >> 2; x++) {
+                    this.storage.set(row + x, id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the biomes of the region from the source, reading the source
+     * once per cell.
+     *
+     * @param source The source volume
+     * @param min The minimum position
+     * @param max The maximum position
+     */
+    public void copy(final BiomeVolume source, final Vector3i min, final Vector3i max) {
+        Objects.requireNonNull(source, "source");
+        this.checkRange(min.getX(), min.getY(), min.getZ());
+        this.checkRange(max.getX(), max.getY(), max.getZ());
+        Biome last = null;
+        int lastId = 0;
+        for (int y = min.getY() >> 2; y <= max.getY() >> 2; y++) {
+            final int blockY = Math.max(y << 2, min.getY());
+            for (int z = min.getZ() >> 2; z <= max.getZ() >> 2; z++) {
+                final int blockZ = Math.max(z << 2, min.getZ());
+                final int row = ((y - this.cellMinY) * this.cellsZ + z - this.cellMinZ) * this.cellsX - this.cellMinX;
+                for (int x = min.getX() >> 2; x <= max.getX() >> 2; x++) {
+                    final Biome biome = source.getBiome(Math.max(x << 2, min.getX()), blockY, blockZ);
+                    // Neighbouring cells mostly share their biome, skip the palette lookup for runs
+                    if (biome != last) {
+                        last = biome;
+                        lastId = this.getOrAssign(biome);
+                    }
+                    this.storage.set(row + x, lastId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final PalettedMutableBiomeBuffer that = (PalettedMutableBiomeBuffer) o;
+        for (int i = 0; i < this.cellCount; i++) {
+            if (this.palette.get(this.storage.get(i)) != that.palette.get(that.storage.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        for (int i = 0; i < this.cellCount; i++) {
+            result = 31 * result + this.palette.get(this.storage.get(i)).hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public VolumeStream<PalettedMutableBiomeBuffer, Biome> getBiomeStream(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options
+    ) {
+        final Vector3i blockMin = this.getBlockMin();
+        final Vector3i blockMax = this.getBlockMax();
+        VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
+        final IntFunction<Biome> biomeByCell;
+        if (options.carbonCopy()) {
+            final BitArray storage = new BitArray(this.storage.getBits(), this.cellCount, this.storage.getRaw().clone());
+            final List<Biome> palette = new ArrayList<>(this.palette);
+            biomeByCell = index -> palette.get(storage.get(index));
+        } else {
+            biomeByCell = index -> this.palette.get(this.storage.get(index));
+        }
+        final Stream<VolumeElement<PalettedMutableBiomeBuffer, Biome>> stateStream = IntStream.range(blockMin.getX(), blockMax.getX() + 1)
+            .mapToObj(x -> IntStream.range(blockMin.getZ(), blockMax.getZ() + 1)
+                .mapToObj(z -> IntStream.range(blockMin.getY(), blockMax.getY() + 1)
+                    .mapToObj(y -> VolumeElement.of(this, () -> biomeByCell.apply(this.getCellIndex(x, y, z)), new Vector3i(x, y, z)))
+                ).flatMap(Function.identity())
+            ).flatMap(Function.identity());
+        return new SpongeVolumeStream<>(stateStream, () -> this);
+    }
+}
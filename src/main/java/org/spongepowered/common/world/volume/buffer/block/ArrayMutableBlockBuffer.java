@@ -150,6 +150,19 @@ public BlockState getBlock(final int x, final int y, final int z) {
             .orElseGet(() -> this.defaultState.get(registries).getDefaultState());
     }
 
+    /**
+     * Gets the id in the palette of the block at the position.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @return The palette id
+     */
+    public int getPaletteId(final int x, final int y, final int z) {
+        this.checkRange(x, y, z);
+        return this.data.get(this.getIndex(x, y, z));
+    }
+
     @Override
     public FluidState getFluid(final int x, final int y, final int z) {
         return this.getBlock(x, y, z).getFluidState();
@@ -91,6 +91,7 @@
 import org.spongepowered.common.effect.record.SpongeMusicDisc;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.network.BatchedPacketWriter;
 import org.spongepowered.common.util.BookUtil;
 import org.spongepowered.common.util.NetworkUtil;
 import org.spongepowered.math.vector.Vector3d;
@@ -142,7 +143,7 @@ public void spawnParticles(final ParticleEffect particleEffect, final Vector3d p
         if (!packets.isEmpty()) {
             if (position.sub(this.shadow$getX(), this.shadow$getY(), this.shadow$getZ()).lengthSquared() < (long) radius * (long) radius) {
                 for (final IPacket<?> packet : packets) {
-                    this.connection.send(packet);
+                    BatchedPacketWriter.write(this.connection.connection, packet);
                 }
             }
         }
@@ -65,7 +65,7 @@
 import org.spongepowered.common.accessor.tileentity.TileEntityAccessor;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
-import org.spongepowered.common.world.volume.buffer.biome.ObjectArrayMutableBiomeBuffer;
+import org.spongepowered.common.world.volume.buffer.biome.PalettedMutableBiomeBuffer;
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
@@ -219,9 +219,9 @@ default VolumeStream<R, Biome> getBiomeStream(final Vector3i min, final Vector3i
 
         final boolean shouldCarbonCopy = options.carbonCopy();
         final Vector3i size = max.sub(min).add(1, 1 ,1);
-        final @MonotonicNonNull ObjectArrayMutableBiomeBuffer backingVolume;
+        final @MonotonicNonNull PalettedMutableBiomeBuffer backingVolume;
         if (shouldCarbonCopy) {
-            backingVolume = new ObjectArrayMutableBiomeBuffer(min, size);
+            backingVolume = new PalettedMutableBiomeBuffer(min, size);
         } else {
             backingVolume = null;
         }
@@ -28,16 +28,18 @@
 import io.netty.channel.SimpleChannelInboundHandler;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.NetworkManager;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.bridge.network.NetworkManagerBridge_Bungee;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Mixin(NetworkManager.class)
 public abstract class NetworkManagerMixin_Bungee extends SimpleChannelInboundHandler<IPacket<?>> implements NetworkManagerBridge_Bungee {
 
     private UUID bungee$spoofedUUID;
-    private Property[] bungee$spoofedProfile;
+    private @Nullable CompletableFuture<Property[]> bungee$spoofedProfile;
 
     @Override
     public UUID bungeeBridge$getSpoofedUUID() {
@@ -50,12 +52,12 @@ public abstract class NetworkManagerMixin_Bungee extends SimpleChannelInboundHan
     }
 
     @Override
-    public Property[] bungeeBridge$getSpoofedProfile() {
+    public @Nullable CompletableFuture<Property[]> bungeeBridge$getSpoofedProfile() {
         return this.bungee$spoofedProfile;
     }
 
     @Override
-    public void bungeeBridge$setSpoofedProfile(final Property[] profile) {
+    public void bungeeBridge$setSpoofedProfile(final @Nullable CompletableFuture<Property[]> profile) {
         this.bungee$spoofedProfile = profile;
     }
 }
@@ -24,14 +24,12 @@
  */
 package org.spongepowered.common.mixin.bungee.network.handshake;
 
-import com.google.gson.Gson;
-import com.mojang.authlib.properties.Property;
-import com.mojang.util.UUIDTypeAdapter;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.ProtocolType;
 import net.minecraft.network.handshake.ServerHandshakeNetHandler;
 import net.minecraft.network.handshake.client.CHandshakePacket;
 import net.minecraft.util.text.StringTextComponent;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -42,32 +40,28 @@
 import org.spongepowered.common.accessor.network.handshake.client.CHandshakePacketAccessor;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.network.NetworkManagerBridge_Bungee;
+import org.spongepowered.common.network.ForwardedConnectionData;
 
 import java.net.InetSocketAddress;
 
 @Mixin(ServerHandshakeNetHandler.class)
 public abstract class ServerHandshakeNetHandlerMixin_Bungee {
 
-    private static final Gson gson = new Gson();
-
     @Shadow @Final private NetworkManager connection;
 
     @Inject(method = "handleIntention", at = @At(value = "HEAD"), cancellable = true)
     private void bungee$patchHandshake(final CHandshakePacket packet, final CallbackInfo ci) {
         if (SpongeConfigs.getCommon().get().bungeecord.ipForwarding && packet.getIntention().equals(ProtocolType.LOGIN)) {
-            final String ip = ((CHandshakePacketAccessor) packet).accessor$hostName();
-            final String[] split = ip.split("\00\\|", 2)[0].split("\00"); // ignore any extra data
+            final @Nullable ForwardedConnectionData data =
+                    ForwardedConnectionData.parse(((CHandshakePacketAccessor) packet).accessor$hostName());
 
-            if (split.length == 3 || split.length == 4) {
-                ((CHandshakePacketAccessor) packet).accessor$hostName(split[0]);
-                ((NetworkManagerAccessor) this.connection).accessor$address(new InetSocketAddress(split[1],
+            if (data != null) {
+                ((CHandshakePacketAccessor) packet).accessor$hostName(data.getHost());
+                ((NetworkManagerAccessor) this.connection).accessor$address(new InetSocketAddress(data.getAddress(),
                         ((InetSocketAddress) this.connection.getRemoteAddress()).getPort()));
-                ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$setSpoofedUUID(UUIDTypeAdapter.fromString(split[2]));
-
-                if (split.length == 4) {
-                    ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$setSpoofedProfile(ServerHandshakeNetHandlerMixin_Bungee.gson
-                        .fromJson(split[3], Property[].class));
-                }
+                ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$setSpoofedUUID(data.getUniqueId());
+                // Decoded off the network thread, the login waits for it if needed
+                ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$setSpoofedProfile(data.decodePropertiesAsync());
             } else {
                 final StringTextComponent chatcomponenttext =
                         new StringTextComponent("If you wish to use IP forwarding, please enable it in your BungeeCord config as well!");
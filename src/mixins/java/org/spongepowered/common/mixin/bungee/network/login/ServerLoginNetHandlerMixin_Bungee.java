@@ -30,6 +30,10 @@
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.login.ServerLoginNetHandler;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -38,16 +42,22 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.network.NetworkManagerBridge_Bungee;
+import org.spongepowered.common.bridge.network.ServerLoginNetHandlerBridge;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Mixin(ServerLoginNetHandler.class)
-public abstract class ServerLoginNetHandlerMixin_Bungee {
+public abstract class ServerLoginNetHandlerMixin_Bungee implements ServerLoginNetHandlerBridge {
 
+    @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private MinecraftServer server;
     @Shadow @Final public NetworkManager connection;
     @Shadow private GameProfile gameProfile;
 
+    @Shadow public abstract void shadow$disconnect(ITextComponent reason);
+
     @Inject(method = "handleHello",
         at = @At(
             value = "FIELD",
@@ -66,11 +76,48 @@ public abstract class ServerLoginNetHandlerMixin_Bungee {
 
             this.gameProfile = new GameProfile(uuid, this.gameProfile.getName());
 
-            if (((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$getSpoofedProfile() != null) {
-                for (final Property property : ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$getSpoofedProfile()) {
-                    this.gameProfile.getProperties().put(property.getName(), property);
-                }
+            // The properties are usually decoded by now, otherwise they are added once the login is accepted
+            final @Nullable CompletableFuture<Property[]> properties = ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$getSpoofedProfile();
+            if (properties != null && properties.isDone() && !properties.isCompletedExceptionally()) {
+                this.bungee$addSpoofedProperties(properties.join());
             }
         }
     }
+
+    @Override
+    public boolean bridge$isReadyToAccept() {
+        // Not admitted while the properties are still being decoded, so waiting for them doesn't use up the logins of a tick
+        final @Nullable CompletableFuture<Property[]> properties = ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$getSpoofedProfile();
+        return properties == null || properties.isDone();
+    }
+
+    @Inject(method = "handleAcceptedLogin", at = @At("HEAD"), cancellable = true)
+    private void bungee$awaitSpoofedProperties(final CallbackInfo ci) {
+        final @Nullable CompletableFuture<Property[]> properties = ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$getSpoofedProfile();
+        if (properties == null) {
+            return;
+        }
+        if (!properties.isDone()) {
+            // Still being decoded, try again next tick
+            ci.cancel();
+            return;
+        }
+        final Property[] decoded;
+        try {
+            decoded = properties.join();
+        } catch (final CompletionException e) {
+            ServerLoginNetHandlerMixin_Bungee.LOGGER.error("Failed to decode the forwarded profile of " + this.gameProfile.getName(), e.getCause());
+            this.shadow$disconnect(new StringTextComponent("Invalid forwarded profile data"));
+            ci.cancel();
+            return;
+        }
+        this.bungee$addSpoofedProperties(decoded);
+    }
+
+    private void bungee$addSpoofedProperties(final Property[] properties) {
+        ((NetworkManagerBridge_Bungee) this.connection).bungeeBridge$setSpoofedProfile(null);
+        for (final Property property : properties) {
+            this.gameProfile.getProperties().put(property.getName(), property);
+        }
+    }
 }
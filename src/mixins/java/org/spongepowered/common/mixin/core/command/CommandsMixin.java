@@ -39,6 +39,8 @@
 import net.minecraft.command.arguments.SuggestionProviders;
 import net.minecraft.command.impl.AdvancementCommand;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.play.server.SCommandListPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
@@ -66,6 +68,7 @@
 import org.spongepowered.common.util.CommandUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -87,6 +90,7 @@ public abstract class CommandsMixin {
     // @formatter:on
 
     private CauseStackManager.StackFrame impl$initFrame = null;
+    private @Nullable BitSet impl$commandTreeFingerprint = null;
     private final WeakHashMap<ServerPlayerEntity, Map<CommandNode<CommandSource>, List<CommandNode<ISuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
 
@@ -114,6 +118,39 @@ public abstract class CommandsMixin {
         this.impl$initFrame.popCause();
         PhaseTracker.getCauseStackManager().popCauseFrame(this.impl$initFrame);
         this.impl$initFrame = null;
+        ((SpongeCommandManager) SpongeCommon.getGame().getCommandManager()).getCommandTreeCache().invalidate();
+    }
+
+    /*
+     * Sends a cached tree if another player with the same command visibility already had one built.
+     */
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayerEntity player, final CallbackInfo ci) {
+        final SpongeCommandManager commandManager = (SpongeCommandManager) Sponge.getGame().getCommandManager();
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.addContext(EventContextKeys.SUBJECT, (Subject) player);
+            final CommandSource source = player.createCommandSourceStack();
+            final CommandCause cause = ((CommandSourceBridge) source).bridge$withCurrentCause();
+            final BitSet fingerprint = commandManager.getCommandTreeCache()
+                    .fingerprint(this.shadow$getDispatcher(), (CommandSource) cause, cause, commandManager.getNonBrigadierTrees());
+            final SCommandListPacket cached = commandManager.getCommandTreeCache().get(fingerprint);
+            if (cached != null) {
+                player.connection.send(cached);
+                ci.cancel();
+                return;
+            }
+            this.impl$commandTreeFingerprint = fingerprint;
+        }
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "NEW", target = "net/minecraft/network/play/server/SCommandListPacket"))
+    private SCommandListPacket impl$cacheCommandTreePacket(final RootCommandNode<ISuggestionProvider> root) {
+        final BitSet fingerprint = this.impl$commandTreeFingerprint;
+        this.impl$commandTreeFingerprint = null;
+        if (fingerprint == null) {
+            return new SCommandListPacket(root);
+        }
+        return ((SpongeCommandManager) Sponge.getGame().getCommandManager()).getCommandTreeCache().put(fingerprint, root);
     }
 
     /*
@@ -42,7 +42,6 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.entity.item.ItemEntityBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
-import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.mixin.core.entity.EntityMixin;
@@ -59,13 +58,6 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
     @Shadow public abstract ItemStack shadow$getItem();
     // @formatter:on
 
-    /**
-     * A simple cached value of the merge radius for this item.
-     * Since the value is configurable, the first time searching for
-     * other items, this value is cached.
-     */
-    private double impl$cachedRadius = -1;
-
     private int impl$previousPickupDelay = ItemEntityMixin.MAGIC_PREVIOUS;
     private boolean impl$infinitePickupDelay;
     private int impl$previousDespawnDelay = ItemEntityMixin.MAGIC_PREVIOUS;
@@ -81,11 +73,7 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
         if (this.level.isClientSide || ((WorldBridge) this.level).bridge$isFake()) {
             return originalRadius;
         }
-        if (this.impl$cachedRadius == -1) {
-            final double configRadius = ((ServerWorldInfoBridge) this.level.getLevelData()).bridge$configAdapter().get().world.itemMergeRadius;
-            this.impl$cachedRadius = configRadius < 0 ? 0 : configRadius;
-        }
-        return this.impl$cachedRadius;
+        return SpongeGameConfigs.getSnapshot(this.level).itemMergeRadius;
     }
 
     @Override
@@ -113,12 +101,12 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
 
     @Override
     public int bridge$getDespawnDelay() {
-        return SpongeGameConfigs.getForWorld(this.level).get().entity.item.despawnRate - (this.impl$infiniteDespawnDelay ? this.impl$previousDespawnDelay : this.age);
+        return SpongeGameConfigs.getSnapshot(this.level).itemDespawnRate - (this.impl$infiniteDespawnDelay ? this.impl$previousDespawnDelay : this.age);
     }
 
     @Override
     public void bridge$setDespawnDelay(final int delay, final boolean infinite) {
-        this.age = SpongeGameConfigs.getForWorld(this.level).get().entity.item.despawnRate - delay;
+        this.age = SpongeGameConfigs.getSnapshot(this.level).itemDespawnRate - delay;
         final boolean previous = this.impl$infiniteDespawnDelay;
         this.impl$infiniteDespawnDelay = infinite;
         if (infinite && !previous) {
@@ -202,12 +190,12 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
 
     @ModifyConstant(method = "isMergable", constant = @Constant(intValue = 6000))
     private int impl$isMergableUseDespawnRateFromConfig(final int originalValue) {
-        return SpongeGameConfigs.getForWorld(this.level).get().entity.item.despawnRate;
+        return SpongeGameConfigs.getSnapshot(this.level).itemDespawnRate;
     }
 
     @ModifyConstant(method = "tick", constant = @Constant(intValue = 6000))
     private int impl$tickUseDespawnRateFromConfig(final int originalValue) {
-        return SpongeGameConfigs.getForWorld(this.level).get().entity.item.despawnRate;
+        return SpongeGameConfigs.getSnapshot(this.level).itemDespawnRate;
     }
 
 }
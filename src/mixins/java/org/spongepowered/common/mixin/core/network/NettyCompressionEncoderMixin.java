@@ -0,0 +1,265 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.MessageToByteEncoder;
+import net.minecraft.network.INetHandler;
+import net.minecraft.network.NettyCompressionEncoder;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.ServerPlayNetHandler;
+import net.minecraft.util.math.MathHelper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.common.NetworkCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.network.NettyCompressionEncoderBridge;
+import org.spongepowered.common.network.BatchedPacketWriter;
+import org.spongepowered.common.network.SharedCompressedPacket;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+@Mixin(NettyCompressionEncoder.class)
+public abstract class NettyCompressionEncoderMixin extends MessageToByteEncoder<ByteBuf> implements NettyCompressionEncoderBridge {
+
+    private static final long IMPL$ADAPT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    // Latency in milliseconds from which players get more strongly compressed packets
+    private static final int IMPL$HIGH_LATENCY = 150;
+    private static final int IMPL$MIN_ADAPTIVE_THRESHOLD = 64;
+    private static final int IMPL$MAX_RETAINED_INPUT = 1 << 20;
+
+    @Shadow @Final private byte[] encodeBuf;
+    @Shadow @Final private Deflater deflater;
+    @Shadow private int threshold;
+
+    private byte[] impl$input = new byte[0];
+    private int impl$level = -1;
+    private int impl$adaptiveThreshold;
+    private long impl$nextAdapt;
+    private long impl$nanosSinceAdapt;
+
+    // Only written on the event loop
+    private volatile long impl$uncompressedBytes;
+    private volatile long impl$compressedBytes;
+    private volatile long impl$compressionNanos;
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+        if (!(msg instanceof SharedCompressedPacket)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+        final SharedCompressedPacket shared = (SharedCompressedPacket) msg;
+        final @Nullable ByteBuf frame = shared.frame(this);
+        if (frame != null) {
+            ctx.write(frame, promise);
+            return;
+        }
+        final ByteBuf encoded;
+        try {
+            encoded = BatchedPacketWriter.encode(shared.getPacket());
+        } catch (final IOException | RuntimeException e) {
+            promise.setFailure(e);
+            return;
+        }
+        super.write(ctx, encoded, promise);
+    }
+
+    @Inject(method = "encode", at = @At("HEAD"), cancellable = true)
+    private void impl$encodeAdaptively(final ChannelHandlerContext ctx, final ByteBuf in, final ByteBuf out, final CallbackInfo ci) {
+        ci.cancel();
+        final long now = System.nanoTime();
+        if (this.impl$level == -1 || now - this.impl$nextAdapt >= 0) {
+            this.impl$adapt(ctx, now);
+        }
+        final int size = in.readableBytes();
+        final int start = out.writerIndex();
+        if (size < this.bridge$getEffectiveThreshold()) {
+            this.impl$writeUncompressed(in, out);
+        } else {
+            this.impl$writeCompressed(in, out);
+        }
+        this.impl$uncompressedBytes += size;
+        this.impl$compressedBytes += out.writerIndex() - start;
+    }
+
+    @Override
+    public void bridge$compressShared(final ByteBuf in, final ByteBuf out) {
+        if (in.readableBytes() < this.threshold) {
+            this.impl$writeUncompressed(in, out);
+        } else {
+            this.impl$writeCompressed(in, out);
+        }
+    }
+
+    private void impl$writeUncompressed(final ByteBuf in, final ByteBuf out) {
+        final PacketBuffer buffer = new PacketBuffer(out);
+        buffer.writeVarInt(0);
+        buffer.writeBytes(in);
+    }
+
+    private void impl$writeCompressed(final ByteBuf in, final ByteBuf out) {
+        final long start = System.nanoTime();
+        final int size = in.readableBytes();
+        final PacketBuffer buffer = new PacketBuffer(out);
+        buffer.writeVarInt(size);
+        final byte[] input = this.impl$input(size);
+        in.readBytes(input, 0, size);
+        this.deflater.setInput(input, 0, size);
+        this.deflater.finish();
+        while (!this.deflater.finished()) {
+            final int length = this.deflater.deflate(this.encodeBuf);
+            buffer.writeBytes(this.encodeBuf, 0, length);
+        }
+        this.deflater.reset();
+        final long time = System.nanoTime() - start;
+        this.impl$nanosSinceAdapt += time;
+        this.impl$compressionNanos += time;
+    }
+
+    private byte[] impl$input(final int size) {
+        if (size <= this.impl$input.length) {
+            return this.impl$input;
+        }
+        if (size > NettyCompressionEncoderMixin.IMPL$MAX_RETAINED_INPUT) {
+            // Don't keep the memory of rare huge packets around
+            return new byte[size];
+        }
+        this.impl$input = new byte[Math.max(size, Math.min(this.impl$input.length * 2, NettyCompressionEncoderMixin.IMPL$MAX_RETAINED_INPUT))];
+        return this.impl$input;
+    }
+
+    /**
+     * Lowers the level and then raises the threshold while the connection
+     * spends more time compressing than its budget allows, and undoes both
+     * in reverse order once it is well below the budget again. Players with
+     * a high latency are allowed a higher level than configured.
+     */
+    private void impl$adapt(final ChannelHandlerContext ctx, final long now) {
+        this.impl$nextAdapt = now + NettyCompressionEncoderMixin.IMPL$ADAPT_INTERVAL;
+        final long spent = this.impl$nanosSinceAdapt;
+        this.impl$nanosSinceAdapt = 0;
+
+        final NetworkCategory config = SpongeConfigs.getCommon().get().network;
+        final int configured = MathHelper.clamp(config.compressionLevel, 1, 9);
+        if (!config.adaptiveCompression) {
+            this.impl$adaptiveThreshold = 0;
+            this.impl$setLevel(configured);
+            return;
+        }
+
+        final int target = NettyCompressionEncoderMixin.impl$latency(ctx) >= NettyCompressionEncoderMixin.IMPL$HIGH_LATENCY
+                ? Math.min(9, configured + 2) : configured;
+        if (this.impl$level == -1) {
+            this.impl$setLevel(target);
+            return;
+        }
+        final long budget = TimeUnit.MICROSECONDS.toNanos(config.compressionTimeBudget);
+        int level = this.impl$level;
+        if (spent > budget) {
+            if (level > 1) {
+                level--;
+            } else {
+                final int current = Math.max(this.bridge$getEffectiveThreshold(), NettyCompressionEncoderMixin.IMPL$MIN_ADAPTIVE_THRESHOLD);
+                this.impl$adaptiveThreshold = Math.min(config.maxCompressionThreshold, current * 2);
+            }
+        } else if (spent < budget / 2) {
+            if (this.impl$adaptiveThreshold > this.threshold) {
+                final int relaxed = this.impl$adaptiveThreshold / 2;
+                this.impl$adaptiveThreshold = relaxed <= this.threshold ? 0 : relaxed;
+            } else if (level < target) {
+                level++;
+            }
+        }
+        this.impl$setLevel(Math.min(level, target));
+    }
+
+    private void impl$setLevel(final int level) {
+        if (this.impl$level != level) {
+            this.impl$level = level;
+            // Applies from the next deflate, the deflater is reset after every packet
+            this.deflater.setLevel(level);
+        }
+    }
+
+    private static int impl$latency(final ChannelHandlerContext ctx) {
+        final @Nullable ChannelHandler handler = ctx.pipeline().get("packet_handler");
+        if (handler instanceof NetworkManager) {
+            final INetHandler listener = ((NetworkManager) handler).getPacketListener();
+            if (listener instanceof ServerPlayNetHandler) {
+                return ((ServerPlayNetHandler) listener).player.latency;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int bridge$getThreshold() {
+        return this.threshold;
+    }
+
+    @Override
+    public int bridge$getCompressionLevel() {
+        return this.impl$level == -1 ? Deflater.DEFAULT_COMPRESSION : this.impl$level;
+    }
+
+    @Override
+    public int bridge$getEffectiveThreshold() {
+        // Sending a packet uncompressed is always allowed, compressing one below the negotiated threshold is not
+        return Math.max(this.threshold, this.impl$adaptiveThreshold);
+    }
+
+    @Override
+    public long bridge$getUncompressedBytes() {
+        return this.impl$uncompressedBytes;
+    }
+
+    @Override
+    public long bridge$getCompressedBytes() {
+        return this.impl$compressedBytes;
+    }
+
+    @Override
+    public long bridge$getCompressionNanos() {
+        return this.impl$compressionNanos;
+    }
+
+    @Override
+    public void bridge$recordShared(final int uncompressedBytes, final int compressedBytes) {
+        this.impl$uncompressedBytes += uncompressedBytes;
+        this.impl$compressedBytes += compressedBytes;
+    }
+}
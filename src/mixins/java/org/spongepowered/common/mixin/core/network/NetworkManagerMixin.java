@@ -26,19 +26,35 @@
 
 import com.google.common.collect.Sets;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
 import net.minecraft.network.INetHandler;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.NetworkManager;
+import net.minecraft.network.PacketDirection;
+import net.minecraft.network.ProtocolType;
+import net.minecraft.network.play.server.SChunkDataPacket;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.network.EngineConnection;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeMinecraftVersion;
+import org.spongepowered.common.applaunch.config.common.NetworkCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.network.NetworkManagerBridge;
 import org.spongepowered.common.entity.player.ClientType;
+import org.spongepowered.common.network.SharedCompressedPacket;
+import org.spongepowered.common.network.TickFlushHandler;
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
@@ -46,7 +62,9 @@
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -55,7 +73,10 @@ public abstract class NetworkManagerMixin extends SimpleChannelInboundHandler<IP
 
     @Shadow private INetHandler packetListener;
     @Shadow private Channel channel;
+    @Shadow @Final private PacketDirection receiving;
+    @Shadow @Final private Queue<?> queue;
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean shadow$isConnected();
 
     private final TransactionStore impl$transactionStore = new TransactionStore(() -> (EngineConnection) this.packetListener);
     private final Set<ResourceKey> impl$registeredChannels = Sets.newConcurrentHashSet();
@@ -65,6 +86,36 @@ public abstract class NetworkManagerMixin extends SimpleChannelInboundHandler<IP
 
     private ClientType impl$clientType = ClientType.VANILLA;
 
+    @Inject(method = "channelActive", at = @At("TAIL"))
+    private void impl$addFlushHandler(final ChannelHandlerContext ctx, final CallbackInfo ci) {
+        // Only server side connections to remote players are flushed per tick
+        if (this.receiving != PacketDirection.SERVERBOUND || this.channel.remoteAddress() instanceof LocalAddress) {
+            return;
+        }
+        final NetworkCategory config = SpongeConfigs.getCommon().get().network;
+        if (config.flushConsolidation) {
+            this.channel.pipeline().addFirst(TickFlushHandler.NAME, new TickFlushHandler(config.maxFlushDelay, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Inject(method = "send(Lnet/minecraft/network/IPacket;Lio/netty/util/concurrent/GenericFutureListener;)V", at = @At("HEAD"), cancellable = true)
+    private void impl$sendChunkWithSharedCompression(final IPacket<?> packet,
+            @Nullable final GenericFutureListener<? extends Future<? super Void>> listener, final CallbackInfo ci) {
+        if (!(packet instanceof SChunkDataPacket) || !this.shadow$isConnected() || !this.queue.isEmpty()
+                || this.channel.attr(NetworkManager.ATTRIBUTE_PROTOCOL).get() != ProtocolType.PLAY
+                || this.channel.pipeline().get("compress") == null
+                || !SpongeConfigs.getCommon().get().network.sharedChunkCompression) {
+            return;
+        }
+        // Compressed once by the first connection, see SharedCompressedPacket
+        final ChannelFuture future = this.channel.writeAndFlush(new SharedCompressedPacket((SChunkDataPacket) packet));
+        if (listener != null) {
+            future.addListener(listener);
+        }
+        future.addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        ci.cancel();
+    }
+
     @Override
     public TransactionStore bridge$getTransactionStore() {
         return this.impl$transactionStore;
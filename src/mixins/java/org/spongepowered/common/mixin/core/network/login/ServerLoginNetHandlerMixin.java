@@ -28,6 +28,7 @@
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.login.ServerLoginNetHandler;
 import net.minecraft.network.play.server.SDisconnectPacket;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerList;
 import net.minecraft.util.text.ITextComponent;
 import org.apache.logging.log4j.Logger;
@@ -48,6 +49,7 @@
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.network.NetworkManagerHolderBridge;
 import org.spongepowered.common.bridge.network.ServerLoginNetHandlerBridge;
+import org.spongepowered.common.network.LoginAdmission;
 
 import java.net.SocketAddress;
 
@@ -55,10 +57,12 @@
 public abstract class ServerLoginNetHandlerMixin implements ServerLoginNetHandlerBridge, NetworkManagerHolderBridge {
 
     @Shadow @Final private static Logger LOGGER;
+    @Shadow @Final private MinecraftServer server;
     @Shadow @Final public NetworkManager connection;
     @Shadow private com.mojang.authlib.GameProfile gameProfile;
 
     @Shadow public abstract String shadow$getUserName();
+    @Shadow public abstract void shadow$handleAcceptedLogin();
     @Shadow protected abstract com.mojang.authlib.GameProfile shadow$createFakeProfile(com.mojang.authlib.GameProfile profile);
 
     @Override
@@ -74,6 +78,12 @@ public abstract class ServerLoginNetHandlerMixin implements ServerLoginNetHandle
         return null; // We handle disconnecting
     }
 
+    @Redirect(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/login/ServerLoginNetHandler;handleAcceptedLogin()V"))
+    private void impl$admitLoginsInBatches(final ServerLoginNetHandler self) {
+        // A login that isn't admitted stays ready to accept and is retried next tick
+        LoginAdmission.accept(this.server.getTickCount(), this::bridge$isReadyToAccept, this::shadow$handleAcceptedLogin);
+    }
+
     private void impl$closeConnection(final ITextComponent reason) {
         try {
             ServerLoginNetHandlerMixin.LOGGER.info("Disconnecting " + this.shadow$getUserName() + ": " + reason.getString());
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.core.scoreboard;
 
-import net.kyori.adventure.text.Component;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.play.server.SDisplayObjectivePacket;
@@ -63,6 +62,7 @@
 import org.spongepowered.common.bridge.scoreboard.ScoreBridge;
 import org.spongepowered.common.bridge.scoreboard.ScoreObjectiveBridge;
 import org.spongepowered.common.bridge.scoreboard.ServerScoreboardBridge;
+import org.spongepowered.common.scoreboard.ScoreUpdateBuffer;
 import org.spongepowered.common.scoreboard.SpongeObjective;
 import org.spongepowered.common.scoreboard.SpongeScore;
 import org.spongepowered.common.util.Constants;
@@ -85,6 +85,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
     @Shadow protected abstract void shadow$setDirty();
 
     private final List<ServerPlayerEntity> impl$players = new ArrayList<>();
+    private final ScoreUpdateBuffer impl$scoreUpdates = new ScoreUpdateBuffer(this::impl$sendToPlayersNow, this.impl$players::size);
 
     // Update objective in display slot
 
@@ -159,6 +160,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
         }
 
         ((ServerScoreboardBridge) this).bridge$sendToPlayers(new SScoreboardObjectivePacket(scoreObjective, Constants.Scoreboards.OBJECTIVE_PACKET_REMOVE));
+        this.impl$scoreUpdates.clearObjective(scoreObjective.getName());
 
         final List list = ((ScoreboardAccessor) this).accessor$objectivesByCriteria().get(scoreObjective.getCriteria());
 
@@ -203,6 +205,12 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$sendToPlayers(final IPacket<?> packet) {
+        // Keep pending score changes ahead of whatever is sent next
+        this.impl$scoreUpdates.flush();
+        this.impl$sendToPlayersNow(packet);
+    }
+
+    private void impl$sendToPlayersNow(final IPacket<?> packet) {
         for (final ServerPlayerEntity player: this.impl$players) {
             player.connection.send(packet);
         }
@@ -210,6 +218,8 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$addPlayer(final ServerPlayerEntity player, final boolean sendPackets) {
+        // Bring the existing viewers up to date, so the new viewer ends up with the same state as them
+        this.impl$scoreUpdates.flush();
         this.impl$players.add(player);
         if (sendPackets) {
             for (final ScorePlayerTeam team : this.getPlayerTeams()) {
@@ -266,32 +276,31 @@ public void removePlayerTeam(final ScorePlayerTeam team) {
 
     @Override
     public Score getOrCreatePlayerScore(final String name, final ScoreObjective objective) {
-        return ((SpongeScore) ((ScoreObjectiveBridge) objective).bridge$getSpongeObjective().getOrCreateScore(SpongeAdventure.legacySection(name)))
-                .getScoreFor(objective);
+        return ((ScoreObjectiveBridge) objective).bridge$getSpongeObjective().getOrCreateScore(name).getScoreFor(objective);
     }
 
     @Override
     public void resetPlayerScore(final String name, final ScoreObjective objective) {
         if (objective != null) {
             final SpongeObjective spongeObjective = ((ScoreObjectiveBridge) objective).bridge$getSpongeObjective();
-            final Optional<org.spongepowered.api.scoreboard.Score> score = spongeObjective.getScore(SpongeAdventure.legacySection(name));
+            final Optional<SpongeScore> score = spongeObjective.getScore(name);
             if (score.isPresent()) {
                 spongeObjective.removeScore(score.get());
             } else {
                 SpongeCommon.getLogger().warn("Objective {} did have have the score", name);
             }
         } else {
-            final Component textName = SpongeAdventure.legacySection(name);
             for (final ScoreObjective scoreObjective : this.getObjectives()) {
-                ((ScoreObjectiveBridge) scoreObjective).bridge$getSpongeObjective().removeScore(textName);
+                final SpongeObjective spongeObjective = ((ScoreObjectiveBridge) scoreObjective).bridge$getSpongeObjective();
+                spongeObjective.getScore(name).ifPresent(spongeObjective::removeScore);
             }
         }
     }
 
     @Redirect(method = "onScoreChanged",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/management/PlayerList;broadcastAll(Lnet/minecraft/network/IPacket;)V"))
-    private void onUpdateScoreValue(final PlayerList manager, final IPacket<?> packet) {
-        this.bridge$sendToPlayers(packet);
+    private void onUpdateScoreValue(final PlayerList manager, final IPacket<?> packet, final Score score) {
+        this.impl$scoreUpdates.change(score.getObjective().getName(), score.getOwner(), score.getScore());
     }
 
     @Redirect(method = "onScoreChanged", at = @At(value = "INVOKE", target = "Ljava/util/Set;contains(Ljava/lang/Object;)Z", remap = false))
@@ -301,14 +310,16 @@ private boolean onUpdateScoreValue(final Set<?> set, final Object object) {
 
     @Redirect(method = "onPlayerRemoved",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/management/PlayerList;broadcastAll(Lnet/minecraft/network/IPacket;)V"))
-    private void impl$updatePlayersOnRemoval(final PlayerList manager, final IPacket<?> packet) {
+    private void impl$updatePlayersOnRemoval(final PlayerList manager, final IPacket<?> packet, final String owner) {
         this.bridge$sendToPlayers(packet);
+        this.impl$scoreUpdates.removeOwner(owner);
     }
 
     @Redirect(method = "onPlayerScoreRemoved",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/management/PlayerList;broadcastAll(Lnet/minecraft/network/IPacket;)V"))
-    private void impl$updatePlayersOnRemovalOfObjective(final PlayerList manager, final IPacket<?> packet) {
-        this.bridge$sendToPlayers(packet);
+    private void impl$updatePlayersOnRemovalOfObjective(final PlayerList manager, final IPacket<?> packet, final String owner,
+            final ScoreObjective objective) {
+        this.impl$scoreUpdates.remove(objective.getName(), owner);
     }
 
     //@Redirect(method = "setObjectiveInDisplaySlot", at = @At(value = "INVOKE", target = SEND_PACKET_METHOD))
@@ -319,6 +330,7 @@ private boolean onUpdateScoreValue(final Set<?> set, final Object object) {
     @Inject(method = "onObjectiveAdded", at = @At("RETURN"))
     private void impl$UpdatePlayersScoreObjective(final ScoreObjective objective, final CallbackInfo ci) {
         this.bridge$sendToPlayers(new SScoreboardObjectivePacket(objective, Constants.Scoreboards.OBJECTIVE_PACKET_ADD));
+        this.impl$scoreUpdates.clearObjective(objective.getName());
     }
 
     /**
@@ -384,6 +396,21 @@ public void setDisplayObjective(final int slot, @Nullable final ScoreObjective o
         this.bridge$sendToPlayers(packet);
     }
 
+    @Inject(method = {"startTrackingObjective", "stopTrackingObjective"}, at = @At("HEAD"))
+    private void impl$flushScoresBeforeTracking(final ScoreObjective objective, final CallbackInfo ci) {
+        this.impl$scoreUpdates.flush();
+    }
+
+    @Inject(method = "startTrackingObjective", at = @At("TAIL"))
+    private void impl$syncScoresAfterTracking(final ScoreObjective objective, final CallbackInfo ci) {
+        this.impl$scoreUpdates.syncObjective(objective.getName(), this.getPlayerScores(objective));
+    }
+
+    @Inject(method = "stopTrackingObjective", at = @At("TAIL"))
+    private void impl$clearScoresAfterTracking(final ScoreObjective objective, final CallbackInfo ci) {
+        this.impl$scoreUpdates.clearObjective(objective.getName());
+    }
+
     @Redirect(method = "startTrackingObjective",
         at = @At(value = "INVOKE", target = "Ljava/util/List;iterator()Ljava/util/Iterator;", ordinal = 0, remap = false))
     private Iterator impl$useOurScoreboardForPlayers(final List list) {
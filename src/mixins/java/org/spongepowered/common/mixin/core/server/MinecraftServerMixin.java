@@ -76,13 +76,18 @@
 import org.spongepowered.common.bridge.server.management.PlayerProfileCacheBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
-import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.network.BatchedPacketWriter;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.scoreboard.ScoreUpdateBuffer;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
+import org.spongepowered.common.user.SpongeUserManager;
+import org.spongepowered.common.util.CacheFileWriter;
+import org.spongepowered.common.util.UserListUtil;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -163,6 +168,26 @@ public Subject getSubject() {
         this.getScheduler().tick();
     }
 
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void impl$tickWorldManager(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        this.getWorldManager().tick();
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void impl$flushScoreUpdates(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        ScoreUpdateBuffer.flushAll();
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void impl$flushBatchedPackets(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        BatchedPacketWriter.flush();
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void impl$saveDirtyUserLists(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        UserListUtil.saveDirtyLists(false);
+    }
+
     @Override
     public CommandSource bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -178,6 +203,7 @@ public Subject getSubject() {
     }
 
     // We want to save the username cache json, as we normally bypass it.
+    // Both caches are written in the background.
     @Inject(method = "saveAllChunks", at = @At("RETURN"))
     private void impl$saveUsernameCacheOnSave(
             final boolean suppressLog,
@@ -187,6 +213,17 @@ public Subject getSubject() {
         ((PlayerProfileCacheBridge) this.profileCache).bridge$setCanSave(true);
         this.profileCache.save();
         ((PlayerProfileCacheBridge) this.profileCache).bridge$setCanSave(false);
+        this.getUsernameCache().save();
+    }
+
+    @Inject(method = "saveAllChunks", at = @At("RETURN"))
+    private void impl$saveSpongeDataOnSave(
+            final boolean suppressLog,
+            final boolean flush,
+            final boolean forced,
+            final CallbackInfoReturnable<Boolean> cir) {
+        this.getPlayerDataManager().flush();
+        ((SpongeUserManager) this.getUserManager()).save();
     }
 
     /**
@@ -203,6 +240,16 @@ public String getServerModName() {
         TimingsManager.FULL_SERVER_TICK.stopTiming();
     }
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$saveUserListsOnStop(final CallbackInfo ci) {
+        UserListUtil.saveDirtyLists(true);
+    }
+
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$awaitCacheWritesOnStop(final CallbackInfo ci) {
+        CacheFileWriter.awaitPending();
+    }
+
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
         for (final Map.Entry<RegistryKey<World>, ServerWorld> entry : this.levels.entrySet()) {
@@ -251,11 +298,11 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
 
             // Not forced happens during ticks and when shutting down
             if (!isForced) {
-                final InheritableConfigHandle<WorldConfig> adapter = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter();
-                final int autoSaveInterval = adapter.get().world.autoSaveInterval;
+                final WorldConfigSnapshot config = SpongeGameConfigs.getSnapshot(world);
+                final int autoSaveInterval = config.autoSaveInterval;
                 if (log) {
                     if (this.bridge$performAutosaveChecks()) {
-                        log = adapter.get().world.logAutoSave;
+                        log = config.logAutoSave;
                     }
                 }
 
@@ -31,6 +31,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.server.management.IPBanEntryBridge;
+import org.spongepowered.common.service.server.ban.IpRangeTrie;
 
 import javax.annotation.Nullable;
 import java.net.InetAddress;
@@ -52,9 +53,10 @@ public abstract class IPBanEntryMixin extends BanEntryMixin<String> implements I
     }
 
     private void setAddress() {
+        final String user = this.shadow$getUser();
         try {
-            this.impl$address = InetAddress.getByName(this.shadow$getUser());
-        } catch (UnknownHostException e) {
+            this.impl$address = IpRangeTrie.isRange(user) ? IpRangeTrie.getNetworkAddress(user) : InetAddress.getByName(user);
+        } catch (final UnknownHostException | IllegalArgumentException e) {
             throw new IllegalStateException("Error parsing Ban IP address!", e);
         }
     }
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.server.management;
+
+import net.minecraft.server.management.IPBanEntry;
+import net.minecraft.server.management.IPBanList;
+import net.minecraft.server.management.UserListEntry;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.server.management.UserListAccessor;
+import org.spongepowered.common.bridge.server.management.IPBanListBridge;
+import org.spongepowered.common.service.server.ban.IpRangeTrie;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+import javax.annotation.Nullable;
+
+@Mixin(IPBanList.class)
+public abstract class IPBanListMixin extends UserListMixin<String, IPBanEntry> implements IPBanListBridge {
+
+    private final IpRangeTrie<IPBanEntry> impl$ranges = new IpRangeTrie<>();
+
+    @Inject(method = "isBanned(Ljava/net/SocketAddress;)Z", at = @At("RETURN"), cancellable = true)
+    private void impl$checkRangeBans(final SocketAddress address, final CallbackInfoReturnable<Boolean> cir) {
+        if (!cir.getReturnValueZ() && address instanceof InetSocketAddress
+                && this.bridge$getRangeBan(((InetSocketAddress) address).getAddress()) != null) {
+            cir.setReturnValue(true);
+        }
+    }
+
+    @Inject(method = "get(Ljava/net/SocketAddress;)Lnet/minecraft/server/management/IPBanEntry;", at = @At("RETURN"), cancellable = true)
+    private void impl$getRangeBan(final SocketAddress address, final CallbackInfoReturnable<IPBanEntry> cir) {
+        if (cir.getReturnValue() == null && address instanceof InetSocketAddress) {
+            final IPBanEntry ban = this.bridge$getRangeBan(((InetSocketAddress) address).getAddress());
+            if (ban != null) {
+                cir.setReturnValue(ban);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable IPBanEntry bridge$getRangeBan(final InetAddress address) {
+        if (this.impl$ranges.isEmpty()) {
+            return null;
+        }
+        ((UserListAccessor<String, IPBanEntry>) this).invoker$removeExpired();
+        return this.impl$ranges.find(address);
+    }
+
+    @Override
+    public void bridge$entryAdded(final String key, final UserListEntry<?> entry) {
+        super.bridge$entryAdded(key, entry);
+        if (IpRangeTrie.isRange(key)) {
+            try {
+                this.impl$ranges.put(key, (IPBanEntry) entry);
+            } catch (final IllegalArgumentException e) {
+                SpongeCommon.getLogger().warn("Ignoring the IP ban of the malformed address range '{}'", key, e);
+            }
+        }
+    }
+
+    @Override
+    public void bridge$entryRemoved(final String key) {
+        super.bridge$entryRemoved(key);
+        if (IpRangeTrie.isRange(key)) {
+            this.impl$ranges.remove(key);
+        }
+    }
+
+    @Override
+    public void bridge$entriesCleared() {
+        super.bridge$entriesCleared();
+        this.impl$ranges.clear();
+    }
+}
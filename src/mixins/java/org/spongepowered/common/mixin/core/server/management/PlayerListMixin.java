@@ -32,7 +32,9 @@
 import net.minecraft.network.IPacket;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.ServerPlayNetHandler;
+import net.minecraft.network.play.server.SChatPacket;
 import net.minecraft.network.play.server.SDisconnectPacket;
+import net.minecraft.network.play.server.STitlePacket;
 import net.minecraft.scoreboard.ServerScoreboard;
 import net.minecraft.server.CustomServerBossInfoManager;
 import net.minecraft.server.MinecraftServer;
@@ -76,6 +78,7 @@
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.network.PacketBroadcaster;
 import org.spongepowered.common.server.PerWorldBorderListener;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.VecHelper;
@@ -83,6 +86,7 @@
 
 import java.net.SocketAddress;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -94,6 +98,7 @@ public abstract class PlayerListMixin implements PlayerListBridge {
     // @formatter:off
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private MinecraftServer server;
+    @Shadow @Final private List<ServerPlayerEntity> players;
 
     @Shadow public abstract ITextComponent shadow$canPlayerLogin(SocketAddress socketAddress, com.mojang.authlib.GameProfile gameProfile);
     @Shadow public abstract MinecraftServer shadow$getServer();
@@ -409,4 +414,13 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         ((SpongeUser) user).invalidate();
     }
 
+    @Inject(method = "broadcastAll", at = @At("HEAD"), cancellable = true)
+    private void impl$broadcastTextEncodedOnce(final IPacket<?> packet, final CallbackInfo ci) {
+        // Text packets are the ones broadcast to everyone most often, encode them once per locale instead of per player
+        if (packet instanceof SChatPacket || packet instanceof STitlePacket) {
+            PacketBroadcaster.broadcast(this.players, packet);
+            ci.cancel();
+        }
+    }
+
 }
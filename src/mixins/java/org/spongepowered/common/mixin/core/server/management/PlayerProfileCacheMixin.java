@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.core.server.management;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import com.mojang.authlib.Agent;
 import com.mojang.authlib.GameProfileRepository;
 import com.mojang.authlib.ProfileLookupCallback;
@@ -43,8 +45,16 @@
 import org.spongepowered.common.bridge.server.management.PlayerProfileCacheBridge;
 import org.spongepowered.common.bridge.server.management.PlayerProfileCache_ProfileEntryBridge;
 import org.spongepowered.common.profile.SpongeGameProfile;
-
+import org.spongepowered.common.user.SpongeUserManager;
+import org.spongepowered.common.util.CacheFileWriter;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -55,11 +65,15 @@
 @Mixin(PlayerProfileCache.class)
 public abstract class PlayerProfileCacheMixin implements PlayerProfileCacheBridge {
 
+    private static final int MAX_SAVED_PROFILES = 1000;
+
     @Shadow public void shadow$add(final com.mojang.authlib.GameProfile profile) {}
     @Shadow @Final private Map<UUID, PlayerProfileCache_ProfileEntryAccessor> profilesByUUID;
     @Shadow @Final private Map<String, PlayerProfileCache_ProfileEntryAccessor> profilesByName;
+    @Shadow @Final private File file;
 
     private boolean impl$canSave = false;
+    private volatile boolean impl$dirty = false;
 
     @Override
     public Optional<PlayerProfileCache_ProfileEntryBridge> bridge$getEntry(final UUID uniqueId) {
@@ -155,7 +169,12 @@ public abstract class PlayerProfileCacheMixin implements PlayerProfileCacheBridg
 
     @Inject(method = "add", at = @At(value = "RETURN"))
     private void impl$UpdateCacheUsername(final com.mojang.authlib.GameProfile profile, final CallbackInfo ci) {
+        this.impl$dirty = true;
         ((SpongeServer) Sponge.getServer()).getUsernameCache().setUsername(profile.getId(), profile.getName());
+        final SpongeUserManager userManager = (SpongeUserManager) Sponge.getServer().getUserManager();
+        if (userManager != null) {
+            userManager.updateKnownName(profile.getId(), profile.getName());
+        }
     }
 
     @Redirect(method = "lookupGameProfile",
@@ -180,9 +199,29 @@ public abstract class PlayerProfileCacheMixin implements PlayerProfileCacheBridg
     }
 
     @Inject(method = "save", at = @At("HEAD"), cancellable = true)
-    private void impl$IgnoreSavingIfCancelled(final CallbackInfo ci) {
-        if (!this.impl$canSave) {
-            ci.cancel();
+    private void impl$saveInBackground(final CallbackInfo ci) {
+        ci.cancel();
+        if (!this.impl$canSave || !this.impl$dirty) {
+            return;
         }
+        this.impl$dirty = false;
+
+        // Same contents as the vanilla save, the json is built here and written by the cache writer thread
+        final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss Z", Locale.ROOT);
+        final JsonArray entries = new JsonArray();
+        this.profilesByUUID.values().stream()
+            .sorted(Comparator.comparingLong(PlayerProfileCache_ProfileEntryAccessor::invoker$getLastAccess).reversed())
+            .limit(PlayerProfileCacheMixin.MAX_SAVED_PROFILES)
+            .forEach(entry -> {
+                final JsonObject object = new JsonObject();
+                final com.mojang.authlib.GameProfile profile = entry.invoker$getProfile();
+                object.addProperty("name", profile.getName());
+                object.addProperty("uuid", profile.getId() == null ? "" : profile.getId().toString());
+                object.addProperty("expiresOn", dateFormat.format(entry.invoker$getExpirationDate()));
+                entries.add(object);
+            });
+        final byte[] json = entries.toString().getBytes(StandardCharsets.UTF_8);
+        final Path path = this.file.toPath();
+        CacheFileWriter.submit("save the user cache", () -> CacheFileWriter.writeAtomically(path, out -> out.write(json)));
     }
 }
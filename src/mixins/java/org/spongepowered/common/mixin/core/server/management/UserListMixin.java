@@ -24,8 +24,9 @@
  */
 package org.spongepowered.common.mixin.core.server.management;
 
+import net.minecraft.server.management.BanEntry;
 import net.minecraft.server.management.UserList;
-import org.apache.logging.log4j.Logger;
+import net.minecraft.server.management.UserListEntry;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -33,18 +34,88 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.accessor.server.management.UserListEntryAccessor;
+import org.spongepowered.common.bridge.server.management.UserListBridge;
+import org.spongepowered.common.util.UserListUtil;
 
-import java.io.File;
-import java.util.List;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.PriorityQueue;
 
 @Mixin(UserList.class)
-public abstract class UserListMixin {
+public abstract class UserListMixin<K, V extends UserListEntry<K>> implements UserListBridge {
 
+    // @formatter:off
+    @Shadow @Final private Map<String, V> map;
     @Shadow protected abstract String shadow$getKeyForUser(Object obj);
+    // @formatter:on
 
-    @Redirect(method = "removeExpired", at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false))
-    private boolean impl$fixAddingToList(final List<Object> list, final Object object) {
-        return list.add(this.shadow$getKeyForUser(object)); // Mojang didn't implement this correctly, so we'll fix it
+    // Entries with an expiry date, soonest first. Entries that were replaced or removed in
+    // the meantime are skipped once they come up.
+    private final PriorityQueue<BanEntry<?>> impl$expiring = new PriorityQueue<>(Comparator.comparing(BanEntry::getExpires));
+
+    @Inject(method = "removeExpired", at = @At("HEAD"), cancellable = true)
+    private void impl$removeExpiredFromQueue(final CallbackInfo ci) {
+        ci.cancel();
+
+        final Date now = new Date();
+        boolean removed = false;
+        BanEntry<?> entry;
+        while ((entry = this.impl$expiring.peek()) != null && entry.getExpires().before(now)) {
+            this.impl$expiring.poll();
+            final String key = this.shadow$getKeyForUser(((UserListEntryAccessor<?>) entry).accessor$user());
+            if (this.map.get(key) == entry) {
+                this.map.remove(key);
+                this.bridge$entryRemoved(key);
+                removed = true;
+            }
+        }
+        if (removed) {
+            this.bridge$saveLater();
+        }
     }
 
+    @Inject(method = "add", at = @At("TAIL"))
+    private void impl$indexAddedEntry(final V entry, final CallbackInfo ci) {
+        this.bridge$entryAdded(this.shadow$getKeyForUser(((UserListEntryAccessor<?>) entry).accessor$user()), entry);
+    }
+
+    @Inject(method = "remove(Ljava/lang/Object;)V", at = @At("TAIL"))
+    private void impl$indexRemovedEntry(final K user, final CallbackInfo ci) {
+        this.bridge$entryRemoved(this.shadow$getKeyForUser(user));
+    }
+
+    @Inject(method = "load", at = @At("TAIL"))
+    private void impl$indexLoadedEntries(final CallbackInfo ci) {
+        this.bridge$entriesCleared();
+        this.map.forEach(this::bridge$entryAdded);
+    }
+
+    @Redirect(method = {"add", "remove(Ljava/lang/Object;)V"}, at = @At(value = "INVOKE", target = "Lnet/minecraft/server/management/UserList;save()V"))
+    private void impl$saveLater(final UserList<K, V> list) {
+        this.bridge$saveLater();
+    }
+
+    @Override
+    public void bridge$entryAdded(final String key, final UserListEntry<?> entry) {
+        if (entry instanceof BanEntry && ((BanEntry<?>) entry).getExpires() != null) {
+            this.impl$expiring.add((BanEntry<?>) entry);
+        }
+    }
+
+    @Override
+    public void bridge$entryRemoved(final String key) {
+        // Removed entries stay queued until they expire, the queue skips them
+    }
+
+    @Override
+    public void bridge$entriesCleared() {
+        this.impl$expiring.clear();
+    }
+
+    @Override
+    public void bridge$saveLater() {
+        UserListUtil.saveLater((UserList<?, ?>) (Object) this);
+    }
 }
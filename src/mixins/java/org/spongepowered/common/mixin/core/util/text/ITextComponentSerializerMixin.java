@@ -72,7 +72,7 @@ public abstract class ITextComponentSerializerMixin {
     @Inject(method = "toJson", at = @At("HEAD"), cancellable = true)
     private static void impl$redirectSerialization(final ITextComponent component, final CallbackInfoReturnable<String> cir) {
         if (component instanceof AdventureTextComponent) {
-            cir.setReturnValue(GSON.toJson(((AdventureTextComponent) component).wrapped()));
+            cir.setReturnValue(((AdventureTextComponent) component).json(GSON::toJson));
         }
     }
 
@@ -37,15 +37,34 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
 
+import java.util.function.BooleanSupplier;
+
 @Mixin(ChunkManager.class)
 public abstract class ChunkManagerMixin {
 
     // @formatter:off
     @Shadow @Final private ServerWorld level;
+    @Shadow protected abstract void shadow$processUnloads(BooleanSupplier hasMoreTime);
     // @formatter:on
 
+    @Redirect(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/server/ChunkManager;processUnloads(Ljava/util/function/BooleanSupplier;)V"))
+    private void impl$keepChunksWhileSavingPaused(final ChunkManager chunkManager, final BooleanSupplier hasMoreTime) {
+        // Unloading writes the chunks, keep them loaded until saving resumes. Closing the world still saves them.
+        if (!((ServerWorldBridge) this.level).bridge$isSavingPaused()) {
+            this.shadow$processUnloads(hasMoreTime);
+        }
+    }
+
+    @Redirect(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/village/PointOfInterestManager;tick(Ljava/util/function/BooleanSupplier;)V"))
+    private void impl$keepPointsOfInterestWhileSavingPaused(final PointOfInterestManager pointOfInterestManager, final BooleanSupplier hasMoreTime) {
+        if (!((ServerWorldBridge) this.level).bridge$isSavingPaused()) {
+            pointOfInterestManager.tick(hasMoreTime);
+        }
+    }
+
     @Redirect(method = "save", at = @At(value = "INVOKE", target = "Lnet/minecraft/village/PointOfInterestManager;flush(Lnet/minecraft/util/math/ChunkPos;)V"))
     private void impl$useSerializationBehaviorForPOI(PointOfInterestManager pointOfInterestManager, ChunkPos p_219112_1_) {
         final ServerWorldInfoBridge infoBridge = (ServerWorldInfoBridge) this.level.getLevelData();
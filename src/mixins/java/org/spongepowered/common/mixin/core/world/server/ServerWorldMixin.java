@@ -71,6 +71,7 @@
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.mixin.core.world.WorldMixin;
 import org.spongepowered.common.registry.SpongeRegistryHolder;
+import org.spongepowered.common.world.server.ChunkPrefetcher;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.HashMap;
@@ -78,6 +79,7 @@
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -95,7 +97,9 @@ public abstract class ServerWorldMixin extends WorldMixin implements ServerWorld
     private SpongeRegistryHolder impl$registerHolder;
     private IChunkStatusListener impl$chunkStatusListener;
     private boolean impl$isManualSave = false;
+    private boolean impl$savingPaused = false;
     private Weather impl$previousWeather;
+    private ChunkPrefetcher impl$chunkPrefetcher;
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void impl$cacheLevelSave(MinecraftServer p_i241885_1_, Executor p_i241885_2_, SaveFormat.LevelSave p_i241885_3_,
@@ -105,6 +109,17 @@ public abstract class ServerWorldMixin extends WorldMixin implements ServerWorld
         this.impl$levelSave = p_i241885_3_;
         this.impl$chunkStatusListener = p_i241885_7_;
         this.impl$registerHolder = new SpongeRegistryHolder(((DynamicRegistries.Impl) p_i241885_1_.registryAccess()));
+        this.impl$chunkPrefetcher = new ChunkPrefetcher((ServerWorld) (Object) this);
+    }
+
+    @Inject(method = "tick", at = @At("TAIL"))
+    private void impl$tickChunkPrefetcher(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        this.impl$chunkPrefetcher.tick();
+    }
+
+    @Override
+    public ChunkPrefetcher bridge$chunkPrefetcher() {
+        return this.impl$chunkPrefetcher;
     }
 
     @Override
@@ -270,6 +285,16 @@ public abstract class ServerWorldMixin extends WorldMixin implements ServerWorld
         this.impl$isManualSave = state;
     }
 
+    @Override
+    public boolean bridge$isSavingPaused() {
+        return this.impl$savingPaused;
+    }
+
+    @Override
+    public void bridge$setSavingPaused(final boolean paused) {
+        this.impl$savingPaused = paused;
+    }
+
     @Override
     public RegistryHolder bridge$registries() {
         return this.impl$registerHolder;
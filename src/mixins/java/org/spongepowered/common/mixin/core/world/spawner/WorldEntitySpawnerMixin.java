@@ -34,8 +34,7 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.accessor.world.spawner.WorldEntitySpawner_EntityDensityManagerAccessor;
 import org.spongepowered.common.bridge.world.spawner.WorldEntitySpawner_EntityDensityManagerBridge;
-import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
-import org.spongepowered.common.config.inheritable.SpawnerCategory;
+import org.spongepowered.common.config.SpongeGameConfigs;
 
 @Mixin(WorldEntitySpawner.class)
 public abstract class WorldEntitySpawnerMixin {
@@ -76,20 +75,6 @@ public static void spawnForChunk(ServerWorld world, Chunk chunk, WorldEntitySpaw
     }
 
     private static int impl$getSpawningTickRate(final EntityClassification classification, final ServerWorld world) {
-        final SpawnerCategory.TickRatesSubCategory tickRates = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter().get().spawner.tickRates;
-        switch (classification) {
-            case MONSTER:
-                return tickRates.monster;
-            case CREATURE:
-                return tickRates.creature;
-            case AMBIENT:
-                return tickRates.ambient;
-            case WATER_CREATURE:
-                return tickRates.aquaticCreature;
-            case WATER_AMBIENT:
-                return tickRates.aquaticAmbient;
-            default:
-                throw new IllegalStateException("Unexpected value: " + classification);
-        }
+        return SpongeGameConfigs.getSnapshot(world).spawnTickRate(classification);
     }
 }
@@ -34,7 +34,6 @@
 import org.spongepowered.common.accessor.world.spawner.WorldEntitySpawnerAccessor;
 import org.spongepowered.common.bridge.world.spawner.WorldEntitySpawner_EntityDensityManagerBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
-import org.spongepowered.common.config.inheritable.SpawnerCategory;
 
 @Mixin(WorldEntitySpawner.EntityDensityManager.class)
 public abstract class WorldEntitySpawner_EntityDensityManagerMixin implements WorldEntitySpawner_EntityDensityManagerBridge {
@@ -46,27 +45,7 @@ public abstract class WorldEntitySpawner_EntityDensityManagerMixin implements Wo
 
     @Override
     public boolean bridge$canSpawnForCategoryInWorld(final EntityClassification classification, final ServerWorld world) {
-        final SpawnerCategory.SpawnLimitsSubCategory spawnLimits = SpongeGameConfigs.getForWorld(world).get().spawner.spawnLimits;
-        final int maxInstancesPerChunk;
-        switch (classification) {
-            case MONSTER:
-                maxInstancesPerChunk = spawnLimits.monster;
-                break;
-            case CREATURE:
-                maxInstancesPerChunk = spawnLimits.creature;
-                break;
-            case AMBIENT:
-                maxInstancesPerChunk = spawnLimits.ambient;
-                break;
-            case WATER_CREATURE:
-                maxInstancesPerChunk = spawnLimits.aquaticCreature;
-                break;
-            case WATER_AMBIENT:
-                maxInstancesPerChunk = spawnLimits.aquaticAmbient;
-                break;
-            default:
-                throw new IllegalStateException("Unexpected value: " + classification);
-        }
+        final int maxInstancesPerChunk = SpongeGameConfigs.getSnapshot(world).spawnLimit(classification);
         final int i = maxInstancesPerChunk * this.spawnableChunkCount / WorldEntitySpawnerAccessor.accessor$MAGIC_NUMBER();
         return this.mobCategoryCounts.getInt(classification) < i;
     }
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mojang.authlib.properties.Property;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public class ForwardedConnectionDataTest {
+
+    private static final UUID UNIQUE_ID = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private static final String DASHED = "069a79f4-44e9-4726-a5be-fca90e38aaf5";
+    private static final String UNDASHED = "069a79f444e94726a5befca90e38aaf5";
+    private static final String PROPERTIES = "[{\"name\":\"textures\",\"value\":\"dGV4dHVyZXM=\",\"signature\":\"c2ln\"}]";
+
+    @Test
+    public void parseWithoutProperties() {
+        final ForwardedConnectionData data = ForwardedConnectionData.parse("play.example.com\0" + "10.0.0.1\0" + ForwardedConnectionDataTest.UNDASHED);
+        assertNotNull(data);
+        assertEquals("play.example.com", data.getHost());
+        assertEquals("10.0.0.1", data.getAddress());
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID, data.getUniqueId());
+        assertNull(data.decodePropertiesAsync());
+    }
+
+    @Test
+    public void parseWithProperties() throws Exception {
+        final ForwardedConnectionData data = ForwardedConnectionData.parse("host\0" + "10.0.0.1\0" + ForwardedConnectionDataTest.DASHED + "\0"
+                + ForwardedConnectionDataTest.PROPERTIES);
+        assertNotNull(data);
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID, data.getUniqueId());
+        final CompletableFuture<Property[]> future = data.decodePropertiesAsync();
+        assertNotNull(future);
+        final Property[] properties = future.get();
+        assertEquals(1, properties.length);
+        assertEquals("textures", properties[0].getName());
+        assertEquals("dGV4dHVyZXM=", properties[0].getValue());
+        assertEquals("c2ln", properties[0].getSignature());
+    }
+
+    @Test
+    public void parseTreatsEmptyPropertiesAsNone() {
+        final ForwardedConnectionData data = ForwardedConnectionData.parse("host\0" + "10.0.0.1\0" + ForwardedConnectionDataTest.UNDASHED + "\0");
+        assertNotNull(data);
+        assertNull(data.decodePropertiesAsync());
+    }
+
+    @Test
+    public void parseIgnoresExtraData() {
+        final ForwardedConnectionData data = ForwardedConnectionData.parse("host\0" + "10.0.0.1\0" + ForwardedConnectionDataTest.UNDASHED
+                + "\0|FML\0extra");
+        assertNotNull(data);
+        assertEquals("10.0.0.1", data.getAddress());
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID, data.getUniqueId());
+        assertNull(data.decodePropertiesAsync());
+    }
+
+    @Test
+    public void parseKeepsEmptyHostAndAddress() {
+        final ForwardedConnectionData data = ForwardedConnectionData.parse("\0\0" + ForwardedConnectionDataTest.UNDASHED);
+        assertNotNull(data);
+        assertEquals("", data.getHost());
+        assertEquals("", data.getAddress());
+    }
+
+    @Test
+    public void parseRejectsMalformedHosts() {
+        assertNull(ForwardedConnectionData.parse(""));
+        assertNull(ForwardedConnectionData.parse("play.example.com"));
+        assertNull(ForwardedConnectionData.parse("host\0" + "10.0.0.1"));
+        assertNull(ForwardedConnectionData.parse("host\0" + "10.0.0.1\0"));
+        assertNull(ForwardedConnectionData.parse("host\0" + "10.0.0.1\0not-a-unique-id"));
+        assertNull(ForwardedConnectionData.parse("host\0" + "10.0.0.1\0" + ForwardedConnectionDataTest.UNDASHED + "\0"
+                + ForwardedConnectionDataTest.PROPERTIES + "\0more"));
+        // The separator of the extra data cuts off the unique id
+        assertNull(ForwardedConnectionData.parse("host\0" + "10.0.0.1\0|" + ForwardedConnectionDataTest.UNDASHED));
+    }
+
+    @Test
+    public void parseUniqueIdWithAndWithoutDashes() {
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID,
+                ForwardedConnectionData.parseUniqueId(ForwardedConnectionDataTest.DASHED, 0, 36));
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID,
+                ForwardedConnectionData.parseUniqueId(ForwardedConnectionDataTest.UNDASHED, 0, 32));
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID,
+                ForwardedConnectionData.parseUniqueId(ForwardedConnectionDataTest.DASHED.toUpperCase(), 0, 36));
+    }
+
+    @Test
+    public void parseUniqueIdWithinLargerString() {
+        final String value = "prefix" + ForwardedConnectionDataTest.UNDASHED + "suffix";
+        assertEquals(ForwardedConnectionDataTest.UNIQUE_ID, ForwardedConnectionData.parseUniqueId(value, 6, 38));
+    }
+
+    @Test
+    public void parseUniqueIdKeepsAllBits() {
+        final UUID max = new UUID(-1L, -1L);
+        assertEquals(max, ForwardedConnectionData.parseUniqueId("ffffffff-ffff-ffff-ffff-ffffffffffff", 0, 36));
+        assertEquals(new UUID(0L, 0L), ForwardedConnectionData.parseUniqueId("00000000000000000000000000000000", 0, 32));
+    }
+
+    @Test
+    public void parseUniqueIdRejectsMalformedIds() {
+        // Wrong lengths
+        assertNull(ForwardedConnectionData.parseUniqueId("", 0, 0));
+        assertNull(ForwardedConnectionData.parseUniqueId(ForwardedConnectionDataTest.UNDASHED, 0, 31));
+        assertNull(ForwardedConnectionData.parseUniqueId(ForwardedConnectionDataTest.DASHED, 0, 35));
+        // Dashes in the wrong places or in an undashed id
+        assertNull(ForwardedConnectionData.parseUniqueId("069a79f444e9-4726-a5be-fca90e38aaf5-", 0, 36));
+        assertNull(ForwardedConnectionData.parseUniqueId("069a79f4-44e94726a5befca90e38aaf", 0, 32));
+        // Too many digits where the dashes should be
+        assertNull(ForwardedConnectionData.parseUniqueId("069a79f4044e9047260a5be0fca90e38aaf5", 0, 36));
+        // Not hexadecimal
+        assertNull(ForwardedConnectionData.parseUniqueId("069a79f4-44e9-4726-a5be-fca90e38aafg", 0, 36));
+        assertNull(ForwardedConnectionData.parseUniqueId("069a79f4-44e9-4726-a5be-fca90e38aa f", 0, 36));
+    }
+
+    @Test
+    public void decodeProperties() throws IOException {
+        final Property[] properties = ForwardedConnectionData.decodeProperties(
+                "[{\"name\":\"a\",\"value\":\"1\"},{\"value\":\"2\",\"name\":\"b\",\"signature\":\"s\",\"extra\":{\"nested\":[1,2]}}]");
+        assertEquals(2, properties.length);
+        assertEquals("a", properties[0].getName());
+        assertEquals("1", properties[0].getValue());
+        assertFalse(properties[0].hasSignature());
+        assertEquals("b", properties[1].getName());
+        assertEquals("2", properties[1].getValue());
+        assertTrue(properties[1].hasSignature());
+        assertEquals("s", properties[1].getSignature());
+    }
+
+    @Test
+    public void decodeEmptyProperties() throws IOException {
+        assertArrayEquals(new Property[0], ForwardedConnectionData.decodeProperties("[]"));
+    }
+
+    @Test
+    public void decodePropertiesRejectsMalformedJson() {
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties(""));
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties("{}"));
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties("[{\"name\":\"a\""));
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties("[\"textures\"]"));
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties("[{\"name\":null,\"value\":\"1\"}]"));
+    }
+
+    @Test
+    public void decodePropertiesRequiresNameAndValue() {
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties("[{\"name\":\"a\"}]"));
+        assertThrows(IOException.class, () -> ForwardedConnectionData.decodeProperties("[{\"value\":\"1\",\"signature\":\"s\"}]"));
+    }
+
+    @Test
+    public void decodePropertiesAsyncFailsOnMalformedJson() {
+        final ForwardedConnectionData data = ForwardedConnectionData.parse("host\0" + "10.0.0.1\0" + ForwardedConnectionDataTest.UNDASHED
+                + "\0[{\"name\":\"a\"}]");
+        assertNotNull(data);
+        final CompletableFuture<Property[]> future = data.decodePropertiesAsync();
+        assertNotNull(future);
+        final Throwable thrown = assertThrows(Exception.class, future::join);
+        assertTrue(thrown.getCause() instanceof IOException);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mojang.authlib.properties.Property;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a proxy reconnect storm: a fake proxy hands the forwarded
+ * handshakes of thousands of players to several network threads at once,
+ * while the server thread ticks and admits the logins whose profile
+ * properties were decoded.
+ */
+public class ForwardedLoginStormTest {
+
+    private static final int PLAYERS = 2000;
+    private static final int NETWORK_THREADS = 4;
+    private static final int LOGINS_PER_TICK = 20;
+
+    @BeforeEach
+    public void resetAdmission() {
+        LoginAdmission.reset();
+    }
+
+    @Test
+    public void admitsALoginStormInBatches() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), this::runStorm);
+    }
+
+    private void runStorm() throws InterruptedException {
+        final FakeProxy proxy = new FakeProxy(ForwardedLoginStormTest.PLAYERS);
+        final Queue<PendingLogin> pending = new ConcurrentLinkedQueue<>();
+        final ExecutorService network = Executors.newFixedThreadPool(ForwardedLoginStormTest.NETWORK_THREADS);
+        try {
+            final List<CompletableFuture<Void>> handshakes = new ArrayList<>(proxy.handshakes.size());
+            for (final String handshake : proxy.handshakes) {
+                handshakes.add(CompletableFuture.runAsync(() -> {
+                    final @Nullable ForwardedConnectionData data = ForwardedConnectionData.parse(handshake);
+                    assertNotNull(data, "The fake proxy only sends valid handshakes");
+                    pending.add(new PendingLogin(data, data.decodePropertiesAsync()));
+                }, network));
+            }
+            final CompletableFuture<Void> parsed = CompletableFuture.allOf(handshakes.toArray(new CompletableFuture<?>[0]));
+
+            final Map<UUID, ForwardedConnectionData> admitted = new ConcurrentHashMap<>();
+            int tick = 0;
+            int maxPerTick = 0;
+            while (admitted.size() < ForwardedLoginStormTest.PLAYERS) {
+                if (parsed.isCompletedExceptionally()) {
+                    // Rethrows the failure of a network thread
+                    parsed.join();
+                }
+                int admittedThisTick = 0;
+                // Like the login handlers ticked by the server, every pending login retries each tick
+                for (final Iterator<PendingLogin> it = pending.iterator(); it.hasNext(); ) {
+                    final PendingLogin login = it.next();
+                    final boolean accepted = LoginAdmission.accept(tick, ForwardedLoginStormTest.LOGINS_PER_TICK, login::isReadyToAccept, () -> {
+                        proxy.verify(login);
+                        assertNull(admitted.put(login.data.getUniqueId(), login.data), "A player was admitted twice");
+                    });
+                    if (accepted) {
+                        it.remove();
+                        admittedThisTick++;
+                    }
+                }
+                maxPerTick = Math.max(maxPerTick, admittedThisTick);
+                tick++;
+                if (admittedThisTick == 0) {
+                    Thread.yield();
+                }
+            }
+            parsed.join();
+
+            assertTrue(maxPerTick <= ForwardedLoginStormTest.LOGINS_PER_TICK, "Admitted " + maxPerTick + " logins in a single tick");
+            assertTrue(tick >= ForwardedLoginStormTest.PLAYERS / ForwardedLoginStormTest.LOGINS_PER_TICK,
+                    "The storm should be spread over several ticks");
+            assertTrue(pending.isEmpty());
+        } finally {
+            network.shutdownNow();
+            network.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static final class PendingLogin {
+
+        final ForwardedConnectionData data;
+        final @Nullable CompletableFuture<Property[]> properties;
+
+        PendingLogin(final ForwardedConnectionData data, final @Nullable CompletableFuture<Property[]> properties) {
+            this.data = data;
+            this.properties = properties;
+        }
+
+        // Like the bungee login handler, a login waits for its properties to be decoded
+        boolean isReadyToAccept() {
+            return this.properties == null || this.properties.isDone();
+        }
+    }
+
+    /**
+     * Builds the handshake host names a BungeeCord compatible proxy sends,
+     * every other player with a skin property.
+     */
+    private static final class FakeProxy {
+
+        final List<String> handshakes = new ArrayList<>();
+        final Map<UUID, String> addresses = new ConcurrentHashMap<>();
+
+        FakeProxy(final int players) {
+            for (int i = 0; i < players; i++) {
+                final UUID uniqueId = new UUID(0x5350L, i);
+                final String address = "10.0." + (i >> 8) + "." + (i & 0xff);
+                this.addresses.put(uniqueId, address);
+                final StringBuilder handshake = new StringBuilder("play.example.com")
+                        .append('\0').append(address)
+                        .append('\0').append(uniqueId.toString().replace("-", ""));
+                if (i % 2 == 0) {
+                    handshake.append('\0').append("[{\"name\":\"textures\",\"value\":\"skin-").append(i).append("\",\"signature\":\"sig\"}]");
+                }
+                this.handshakes.add(handshake.toString());
+            }
+        }
+
+        void verify(final PendingLogin login) {
+            final ForwardedConnectionData data = login.data;
+            assertEquals("play.example.com", data.getHost());
+            assertEquals(this.addresses.get(data.getUniqueId()), data.getAddress());
+            final int index = (int) data.getUniqueId().getLeastSignificantBits();
+            if (index % 2 == 0) {
+                assertNotNull(login.properties);
+                final Property[] properties = login.properties.join();
+                assertEquals(1, properties.length);
+                assertEquals("skin-" + index, properties[0].getValue());
+            } else {
+                assertNull(login.properties);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoginAdmissionTest {
+
+    @BeforeEach
+    public void reset() {
+        LoginAdmission.reset();
+    }
+
+    @Test
+    public void admitsUpToTheLimitPerTick() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(LoginAdmission.tryAdmit(100, 5), "Login " + i + " should be admitted");
+        }
+        assertFalse(LoginAdmission.tryAdmit(100, 5), "Logins over the limit should be deferred");
+        assertFalse(LoginAdmission.tryAdmit(100, 5), "Deferred logins should stay deferred for the rest of the tick");
+    }
+
+    @Test
+    public void resetsOnTheNextTick() {
+        for (int i = 0; i < 3; i++) {
+            LoginAdmission.tryAdmit(200, 3);
+        }
+        assertFalse(LoginAdmission.tryAdmit(200, 3));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(LoginAdmission.tryAdmit(201, 3), "Login " + i + " should be admitted on the next tick");
+        }
+        assertFalse(LoginAdmission.tryAdmit(201, 3));
+    }
+
+    @Test
+    public void deferredLoginsDoNotCountAgainstTheNextTick() {
+        LoginAdmission.tryAdmit(300, 1);
+        for (int i = 0; i < 10; i++) {
+            assertFalse(LoginAdmission.tryAdmit(300, 1));
+        }
+        assertTrue(LoginAdmission.tryAdmit(301, 1));
+    }
+
+    @Test
+    public void raisedLimitAppliesWithinTheTick() {
+        assertTrue(LoginAdmission.tryAdmit(400, 1));
+        assertFalse(LoginAdmission.tryAdmit(400, 1));
+        assertTrue(LoginAdmission.tryAdmit(400, 2), "A reloaded, higher limit should admit more logins in the same tick");
+    }
+
+    @Test
+    public void nonPositiveLimitDisablesTheLimit() {
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(LoginAdmission.tryAdmit(500, 0));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(LoginAdmission.tryAdmit(501, -1));
+        }
+    }
+
+    @Test
+    public void loginsThatAreNotReadyDoNotTakeASlot() {
+        final AtomicInteger accepted = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertFalse(LoginAdmission.accept(600, 2, () -> false, accepted::incrementAndGet), "A login that isn't ready should not be accepted");
+        }
+        assertTrue(LoginAdmission.accept(600, 2, () -> true, accepted::incrementAndGet));
+        assertTrue(LoginAdmission.accept(600, 2, () -> true, accepted::incrementAndGet), "Waiting logins should not have used up the tick");
+        assertFalse(LoginAdmission.accept(600, 2, () -> true, accepted::incrementAndGet));
+        assertEquals(2, accepted.get());
+    }
+}
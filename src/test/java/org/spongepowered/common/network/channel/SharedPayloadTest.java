@@ -0,0 +1,218 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.ProtocolType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SharedPayloadTest {
+
+    private static final byte[] CONTENTS = "sponge:channel payload".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger encodes = new AtomicInteger();
+    private final List<ByteBuf> encoded = new ArrayList<>();
+
+    private SharedPayload createPayload() {
+        return new SharedPayload(() -> {
+            this.encodes.incrementAndGet();
+            final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer().writeBytes(SharedPayloadTest.CONTENTS);
+            this.encoded.add(buffer);
+            return buffer;
+        });
+    }
+
+    /**
+     * Creates a channel in the play phase, like the one of a remote player.
+     * The encoder passes the written buffers through.
+     */
+    private static EmbeddedChannel playChannel(final ChannelHandler encoder) {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        channel.attr(NetworkManager.ATTRIBUTE_PROTOCOL).set(ProtocolType.PLAY);
+        channel.pipeline().addLast("encoder", encoder);
+        return channel;
+    }
+
+    private static EmbeddedChannel playChannel() {
+        return SharedPayloadTest.playChannel(new ChannelOutboundHandlerAdapter());
+    }
+
+    @Test
+    public void encodesOnceForAllChannels() {
+        final SharedPayload payload = this.createPayload();
+        final List<EmbeddedChannel> channels = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final EmbeddedChannel channel = SharedPayloadTest.playChannel();
+            assertTrue(payload.writeTo(channel, null));
+            channels.add(channel);
+        }
+        assertEquals(1, this.encodes.get());
+
+        for (final EmbeddedChannel channel : channels) {
+            final ByteBuf written = channel.readOutbound();
+            assertNotNull(written);
+            assertArrayEquals(SharedPayloadTest.CONTENTS, ByteBufUtil.getBytes(written));
+            written.release();
+            assertNull(channel.readOutbound());
+            channel.finishAndReleaseAll();
+        }
+        payload.release();
+        assertEquals(0, this.encoded.get(0).refCnt(), "The encoded payload should be released once every channel released it");
+    }
+
+    @Test
+    public void channelsReadIndependently() {
+        final SharedPayload payload = this.createPayload();
+        final EmbeddedChannel first = SharedPayloadTest.playChannel();
+        final EmbeddedChannel second = SharedPayloadTest.playChannel();
+        payload.writeTo(first, null);
+        payload.writeTo(second, null);
+        payload.release();
+
+        final ByteBuf firstWritten = first.readOutbound();
+        firstWritten.skipBytes(firstWritten.readableBytes());
+        firstWritten.release();
+        final ByteBuf secondWritten = second.readOutbound();
+        assertEquals(SharedPayloadTest.CONTENTS.length, secondWritten.readableBytes());
+        secondWritten.release();
+
+        assertEquals(0, this.encoded.get(0).refCnt());
+        first.finishAndReleaseAll();
+        second.finishAndReleaseAll();
+    }
+
+    @Test
+    public void notEncodedWithoutWrites() {
+        final SharedPayload payload = this.createPayload();
+        assertFalse(payload.isEncoded());
+        payload.release();
+        assertEquals(0, this.encodes.get());
+    }
+
+    @Test
+    public void skipsChannelsWithoutEncoder() {
+        // Like the integrated server's connection to its host, which passes packet objects to the client directly
+        final EmbeddedChannel local = new EmbeddedChannel();
+        local.attr(NetworkManager.ATTRIBUTE_PROTOCOL).set(ProtocolType.PLAY);
+        final SharedPayload payload = this.createPayload();
+
+        assertFalse(payload.writeTo(local, null), "A channel without an encoder can't take encoded packets");
+        assertFalse(payload.isEncoded(), "Nothing should be encoded for a channel that can't take it");
+        assertNull(local.readOutbound());
+
+        final EmbeddedChannel remote = SharedPayloadTest.playChannel();
+        assertTrue(payload.writeTo(remote, null));
+        assertFalse(payload.writeTo(local, null));
+        assertNull(local.readOutbound());
+        payload.release();
+
+        final ByteBuf written = remote.readOutbound();
+        written.release();
+        assertEquals(0, this.encoded.get(0).refCnt());
+        local.finishAndReleaseAll();
+        remote.finishAndReleaseAll();
+    }
+
+    @Test
+    public void skipsChannelsOutsideThePlayPhase() {
+        final EmbeddedChannel login = new EmbeddedChannel();
+        login.attr(NetworkManager.ATTRIBUTE_PROTOCOL).set(ProtocolType.LOGIN);
+        login.pipeline().addLast("encoder", new ChannelOutboundHandlerAdapter());
+        final EmbeddedChannel closed = SharedPayloadTest.playChannel();
+        closed.close();
+        final SharedPayload payload = this.createPayload();
+
+        assertFalse(payload.writeTo(login, null));
+        assertFalse(payload.writeTo(closed, null));
+        assertFalse(payload.isEncoded());
+        payload.release();
+        login.finishAndReleaseAll();
+    }
+
+    @Test
+    public void failedWriteReleasesItsDuplicate() {
+        final SharedPayload payload = this.createPayload();
+        final EmbeddedChannel open = SharedPayloadTest.playChannel();
+        final EmbeddedChannel failing = SharedPayloadTest.playChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+                ReferenceCountUtil.release(msg);
+                promise.setFailure(new IOException("Connection reset"));
+            }
+        });
+
+        final AtomicReference<Future<? super Void>> result = new AtomicReference<>();
+        assertTrue(payload.writeTo(failing, result::set));
+        assertTrue(payload.writeTo(open, null));
+        assertNotNull(result.get());
+        assertFalse(result.get().isSuccess(), "The listener should see the failed write");
+
+        payload.release();
+        final ByteBuf written = open.readOutbound();
+        assertEquals(1, this.encoded.get(0).refCnt(), "The open channel should still hold its duplicate");
+        written.release();
+        assertEquals(0, this.encoded.get(0).refCnt());
+        open.finishAndReleaseAll();
+        failing.finishAndReleaseAll();
+    }
+
+    @Test
+    public void releaseIsIdempotent() {
+        final SharedPayload payload = this.createPayload();
+        final EmbeddedChannel channel = SharedPayloadTest.playChannel();
+        payload.writeTo(channel, null);
+        payload.release();
+        payload.release();
+        assertFalse(payload.isEncoded());
+        final ByteBuf written = channel.readOutbound();
+        assertEquals(1, written.refCnt());
+        written.release();
+        channel.finishAndReleaseAll();
+    }
+}
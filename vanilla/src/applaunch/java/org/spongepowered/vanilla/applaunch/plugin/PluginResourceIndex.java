@@ -0,0 +1,201 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.applaunch.plugin;
+
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.plugin.PluginResource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers which language services found plugins in which plugin jars, keyed
+ * by the path, size and modification time of the jar, so that unchanged jars
+ * without plugins for a language are not inspected again on every start.
+ * Jars with plugins are always handed to the language service, which creates
+ * their candidates.
+ */
+final class PluginResourceIndex {
+
+    private static final int VERSION = 3;
+
+    private final Path file;
+    private final Map<String, Entry> previous = new HashMap<>();
+    private final Map<String, Entry> current = new HashMap<>();
+    private boolean changed;
+
+    PluginResourceIndex(final Path file) {
+        this.file = file;
+    }
+
+    void load(final Logger logger) {
+        if (Files.notExists(this.file)) {
+            this.changed = true;
+            return;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if (in.readInt() != PluginResourceIndex.VERSION) {
+                this.changed = true;
+                return;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String path = in.readUTF();
+                final Entry entry = new Entry(in.readLong(), in.readLong());
+                PluginResourceIndex.readStrings(in, entry.scanned);
+                PluginResourceIndex.readStrings(in, entry.withCandidates);
+                this.previous.put(path, entry);
+            }
+        } catch (final IOException e) {
+            logger.warn("Failed to read the plugin resource index from {}, all plugin resources will be inspected", this.file, e);
+            this.previous.clear();
+            this.changed = true;
+        }
+    }
+
+    /**
+     * Writes the index if it differs from the one that was loaded, either
+     * because a resource was added, removed or changed, or because a
+     * language service inspected a resource it didn't know yet.
+     *
+     * @param logger The logger
+     */
+    void save(final Logger logger) {
+        if (!this.changed && this.previous.keySet().equals(this.current.keySet())) {
+            return;
+        }
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path tmp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(PluginResourceIndex.VERSION);
+                out.writeInt(this.current.size());
+                for (final Map.Entry<String, Entry> mapEntry : this.current.entrySet()) {
+                    final Entry entry = mapEntry.getValue();
+                    out.writeUTF(mapEntry.getKey());
+                    out.writeLong(entry.size);
+                    out.writeLong(entry.lastModified);
+                    PluginResourceIndex.writeStrings(out, entry.scanned);
+                    PluginResourceIndex.writeStrings(out, entry.withCandidates);
+                }
+            }
+            Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.changed = false;
+        } catch (final IOException e) {
+            logger.warn("Failed to save the plugin resource index to {}", this.file, e);
+        }
+    }
+
+    /**
+     * Gets whether the language service found no plugins in the resource the
+     * last time, and the resource did not change since.
+     *
+     * @param resource The resource
+     * @param language The name of the language service
+     * @return Whether the resource can be skipped
+     */
+    boolean isKnownEmpty(final PluginResource resource, final String language) {
+        final Entry entry = this.getCurrent(resource);
+        return entry != null && entry.verified && entry.scanned.contains(language) && !entry.withCandidates.contains(language);
+    }
+
+    void record(final PluginResource resource, final String language, final boolean hasCandidates) {
+        final Entry entry = this.getCurrent(resource);
+        if (entry == null) {
+            return;
+        }
+        if (entry.scanned.add(language)) {
+            this.changed = true;
+        }
+        if (hasCandidates ? entry.withCandidates.add(language) : entry.withCandidates.remove(language)) {
+            this.changed = true;
+        }
+    }
+
+    private Entry getCurrent(final PluginResource resource) {
+        final Path path = resource.getPath();
+        final String key = path.toAbsolutePath().toString();
+        Entry entry = this.current.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            entry = new Entry(Files.size(path), Files.getLastModifiedTime(path).toMillis());
+        } catch (final IOException e) {
+            return null;
+        }
+        final Entry previous = this.previous.get(key);
+        if (previous != null && previous.size == entry.size && previous.lastModified == entry.lastModified) {
+            entry.scanned.addAll(previous.scanned);
+            entry.withCandidates.addAll(previous.withCandidates);
+            entry.verified = true;
+        } else {
+            this.changed = true;
+        }
+        this.current.put(key, entry);
+        return entry;
+    }
+
+    private static void readStrings(final DataInputStream in, final Set<String> strings) throws IOException {
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            strings.add(in.readUTF());
+        }
+    }
+
+    private static void writeStrings(final DataOutputStream out, final Set<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (final String string : strings) {
+            out.writeUTF(string);
+        }
+    }
+
+    private static final class Entry {
+
+        final long size;
+        final long lastModified;
+        final Set<String> scanned = new HashSet<>();
+        final Set<String> withCandidates = new HashSet<>();
+        boolean verified;
+
+        Entry(final long size, final long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
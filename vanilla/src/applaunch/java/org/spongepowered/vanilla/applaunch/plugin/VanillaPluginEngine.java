@@ -27,6 +27,7 @@
 import org.spongepowered.common.applaunch.plugin.PluginEngine;
 import org.spongepowered.plugin.PluginCandidate;
 import org.spongepowered.plugin.PluginEnvironment;
+import org.spongepowered.plugin.PluginKeys;
 import org.spongepowered.plugin.PluginLanguageService;
 import org.spongepowered.plugin.PluginResource;
 import org.spongepowered.plugin.PluginResourceLocatorService;
@@ -132,14 +133,24 @@ public void locatePluginResources() {
     }
 
     public void createPluginCandidates() {
+        final PluginResourceIndex index = new PluginResourceIndex(this.pluginEnvironment.getBlackboard().get(PluginKeys.BASE_DIRECTORY)
+                .orElseThrow(() -> new IllegalStateException("No game directory has been set in the launcher!"))
+                .resolve("cache").resolve("sponge").resolve("plugin-resources.idx"));
+        index.load(this.pluginEnvironment.getLogger());
+
         for (final Map.Entry<String, PluginLanguageService<PluginResource>> languageEntry : this.languageServices.entrySet()) {
             final PluginLanguageService<PluginResource> languageService = languageEntry.getValue();
             for (final Map.Entry<String, List<PluginResource>> resourcesEntry : this.locatorResources.entrySet()) {
 
                 for (final PluginResource pluginResource : resourcesEntry.getValue()) {
+                    // Unchanged jars that had no plugins for this language last time won't have any now
+                    if (index.isKnownEmpty(pluginResource, languageEntry.getKey())) {
+                        continue;
+                    }
                     try {
                         final List<PluginCandidate<PluginResource>> candidates =
                                 languageService.createPluginCandidates(this.pluginEnvironment, pluginResource);
+                        index.record(pluginResource, languageEntry.getKey(), !candidates.isEmpty());
                         if (candidates.isEmpty()) {
                             continue;
                         }
@@ -150,5 +161,7 @@ public void createPluginCandidates() {
                 }
             }
         }
+
+        index.save(this.pluginEnvironment.getLogger());
     }
 }
@@ -35,6 +35,8 @@
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.Lifecycle;
 import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.crash.CrashReport;
 import net.minecraft.crash.ReportedException;
 import net.minecraft.nbt.INBT;
@@ -89,6 +91,7 @@
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
 import org.spongepowered.common.accessor.world.storage.SaveFormat_LevelSaveAccessor;
 import org.spongepowered.common.accessor.world.storage.ServerWorldInfoAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.world.DimensionBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
@@ -104,8 +107,10 @@
 import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FutureUtil;
+import org.spongepowered.common.util.metric.RuntimeMetrics;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 import org.spongepowered.common.world.server.SpongeWorldTemplate;
+import org.spongepowered.common.world.server.WorldFileOperations;
 import org.spongepowered.vanilla.accessor.server.MinecraftServerAccessor_Vanilla;
 
 import java.io.BufferedWriter;
@@ -113,16 +118,15 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -132,6 +136,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 public final class VanillaWorldManager implements SpongeWorldManager {
@@ -141,6 +146,16 @@ public final class VanillaWorldManager implements SpongeWorldManager {
     private final Map<RegistryKey<World>, ServerWorld> worlds;
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
+    private static final int IDLE_CHECK_INTERVAL = 20;
+
+    private final Map<RegistryKey<World>, CompletableFuture<org.spongepowered.api.world.server.ServerWorld>> loadingWorlds = new HashMap<>();
+    private final Object2IntMap<RegistryKey<World>> idleSince = new Object2IntOpenHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder unloads = new LongAdder();
+    private final LongAdder idleUnloads = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private volatile long lastLoadTime;
+    private volatile long maxLoadTime;
 
     public VanillaWorldManager(final MinecraftServer server) {
         this.server = server;
@@ -153,6 +168,17 @@ public VanillaWorldManager(final MinecraftServer server) {
         this.defaultWorldDirectory = ((SaveFormat_LevelSaveAccessor) ((MinecraftServerAccessor) this.server).accessor$storageSource()).accessor$levelPath();
         this.customWorldsDirectory = this.defaultWorldDirectory.resolve("dimensions");
         this.worlds = ((MinecraftServerAccessor) this.server).accessor$levels();
+
+        RuntimeMetrics.register("world.loaded", () -> this.worlds.size());
+        RuntimeMetrics.register("world.loads", this.loads::sum);
+        RuntimeMetrics.register("world.unloads", this.unloads::sum);
+        RuntimeMetrics.register("world.unloads.idle", this.idleUnloads::sum);
+        RuntimeMetrics.register("world.load-time.last-ms", () -> TimeUnit.NANOSECONDS.toMillis(this.lastLoadTime));
+        RuntimeMetrics.register("world.load-time.max-ms", () -> TimeUnit.NANOSECONDS.toMillis(this.maxLoadTime));
+        RuntimeMetrics.register("world.load-time.average-ms", () -> {
+            final long loads = this.loads.sum();
+            return loads == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.totalLoadTime.sum() / loads);
+        });
     }
 
     @Override
@@ -248,7 +274,11 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
         final ResourceKey key = Objects.requireNonNull(template, "template").getKey();
         final RegistryKey<World> registryKey = SpongeWorldManager.createRegistryKey(key);
         if (World.OVERWORLD.equals(registryKey)) {
-            FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
+            return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
+        }
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loading = this.loadingWorlds.get(registryKey);
+        if (loading != null) {
+            return loading;
         }
         final ServerWorld serverWorld = this.worlds.get(registryKey);
         if (serverWorld != null) {
@@ -264,7 +294,11 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
     public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld(final ResourceKey key) {
         final RegistryKey<World> registryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(key, "key"));
         if (World.OVERWORLD.equals(registryKey)) {
-            FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
+            return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
+        }
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loading = this.loadingWorlds.get(registryKey);
+        if (loading != null) {
+            return loading;
         }
         ServerWorld world = this.worlds.get(registryKey);
         if (world != null) {
@@ -278,7 +312,7 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             }
 
             if (template == null) {
-                CompletableFuture.completedFuture(null);
+                return FutureUtil.completedWithException(new IllegalArgumentException(String.format("No template exists for world '%s'!", key)));
             } else {
                 this.saveTemplate(template);
             }
@@ -289,6 +323,38 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
 
     private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld0(final RegistryKey<World> registryKey,
             final Dimension template) {
+        final long loadStart = System.nanoTime();
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> future = this.loadWorld1(registryKey, template);
+        if (future.isDone()) {
+            this.recordLoad(future, loadStart);
+            return future;
+        }
+        this.loadingWorlds.put(registryKey, future);
+        // Completed from the async scheduler, so move back to the main thread before touching our state
+        future.whenCompleteAsync((world, throwable) -> {
+            this.loadingWorlds.remove(registryKey, future);
+            this.recordLoad(future, loadStart);
+        }, this.server);
+        return future;
+    }
+
+    private void recordLoad(final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> future, final long loadStart) {
+        if (!future.isCompletedExceptionally()) {
+            this.recordLoadTime(System.nanoTime() - loadStart);
+        }
+    }
+
+    private void recordLoadTime(final long loadTime) {
+        this.loads.increment();
+        this.totalLoadTime.add(loadTime);
+        this.lastLoadTime = loadTime;
+        if (loadTime > this.maxLoadTime) {
+            this.maxLoadTime = loadTime;
+        }
+    }
+
+    private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld1(final RegistryKey<World> registryKey,
+            final Dimension template) {
         final ServerWorldInfo defaultLevelData = (ServerWorldInfo) this.server.getWorldData();
         final WorldSettings defaultLevelSettings = ((ServerWorldInfoAccessor) defaultLevelData).accessor$settings();
         final DimensionBridge templateBridge = (DimensionBridge) (Object) template;
@@ -462,12 +528,18 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         }
 
         final ServerWorld loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final boolean disableLevelSaving = loadedWorld != null && loadedWorld.noSave;
 
         if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
+            if (((ServerWorldBridge) loadedWorld).bridge$isSavingPaused()) {
+                // Already being copied
+                return CompletableFuture.completedFuture(false);
+            }
+            // The world keeps ticking while it is copied, so flush everything to disk and then keep anything from
+            // writing to the region files until the copy is done
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
+            ((ServerWorldBridge) loadedWorld).bridge$setSavingPaused(true);
         }
 
         final boolean isDefaultWorld = this.isDefaultWorld(key);
@@ -481,91 +553,52 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final String copyDirectoryName = this.getDirectoryName(copyKey);
 
         final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
-                .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
+                .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(copyKey.getNamespace()).resolve(copyKey.getValue());
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+
+        return WorldFileOperations.copyDirectory("Copying world '" + key + "' to '" + copyKey + "'", originalDirectory, copyDirectory,
+                dir -> {
                     // Silly recursion if the default world is being copied
                     if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
+                        return false;
                     }
 
                     // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && VanillaWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
+                    return !isDefaultWorld || !this.isVanillaSubWorld(dir.getFileName().toString());
+                },
+                file -> {
                     // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
+                    final String fileName = file.getFileName().toString();
+                    return !fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) && !fileName.equals(Constants.World.LEVEL_DAT_OLD);
+                })
+                // The world may only save again once the server is done with the copy, so re-enable it on the main thread
+                .whenCompleteAsync((ignored, throwable) -> {
+                    if (loadedWorld != null) {
+                        ((ServerWorldBridge) loadedWorld).bridge$setSavingPaused(false);
+                        loadedWorld.noSave = disableLevelSaving;
                     }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
-
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
-            }
-
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
-
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+                }, this.server)
+                .thenCompose(ignored -> WorldFileOperations.runAsync(() -> this.copyTemplate(dimensionTemplate, copiedDimensionTemplate)))
+                .thenApply(ignored -> true);
+    }
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
+    private void copyTemplate(final Path dimensionTemplate, final Path copiedDimensionTemplate) throws IOException {
+        final JsonObject root;
+        try (final InputStream stream = Files.newInputStream(dimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
+            root = new JsonParser().parse(reader).getAsJsonObject();
         }
 
-        JsonObject fixedObject;
-        try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
-            final JsonParser parser = new JsonParser();
-            final JsonElement element = parser.parse(reader);
-
-            final JsonObject root = element.getAsJsonObject();
-            final JsonObject spongeData = root.getAsJsonObject("#sponge");
+        final JsonObject spongeData = root.getAsJsonObject("#sponge");
+        if (spongeData != null) {
             spongeData.remove("unique_id");
-            fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
         }
 
-        if (fixedObject != null) {
-            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.getAsString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
-            }
+        Files.createDirectories(copiedDimensionTemplate.getParent());
+        try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
+            writer.write(root.toString());
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -584,7 +617,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
-        ServerWorld loadedWorld = this.worlds.get(registryKey);
+        final ServerWorld loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             try {
                 this.unloadWorld0(loadedWorld);
@@ -603,14 +636,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final String moveDirectoryName = this.getDirectoryName(movedKey);
 
         final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(movedKey.getNamespace()).resolve(movedKey.getValue());
 
         final Path configFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key
                 .getNamespace()).resolve(key.getValue() + ".conf");
@@ -618,24 +644,43 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path copiedConfigFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds")
                 .resolve(movedKey.getNamespace()).resolve(movedKey.getValue() + ".conf");
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
 
+        // The template and config are moved first, so they can be moved back if the directory can't be moved
+        return WorldFileOperations.runAsync(() -> {
+                    Files.createDirectories(copiedDimensionTemplate.getParent());
+                    Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+
+                    if (Files.exists(configFile)) {
+                        try {
+                            Files.createDirectories(copiedConfigFile.getParent());
+                            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                        } catch (final IOException e) {
+                            VanillaWorldManager.moveBack(copiedDimensionTemplate, dimensionTemplate);
+                            throw e;
+                        }
+                    }
+                })
+                .thenCompose(ignored -> WorldFileOperations.moveDirectory("Moving world '" + key + "' to '" + movedKey + "'", originalDirectory,
+                        moveDirectory)
+                        .whenComplete((moved, throwable) -> {
+                            if (throwable != null) {
+                                VanillaWorldManager.moveBack(copiedConfigFile, configFile);
+                                VanillaWorldManager.moveBack(copiedDimensionTemplate, dimensionTemplate);
+                            }
+                        }))
+                .thenApply(ignored -> true);
+    }
+
+    private static void moveBack(final Path moved, final Path original) {
         try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.exists(moved)) {
+                Files.move(moved, original, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
+            SpongeCommon.getLogger().error("Failed to move '{}' back to '{}'", moved, original, e);
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -667,33 +712,16 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
 
         final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
 
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
-                }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
-
         final Path configFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key.getNamespace()).resolve(key.getValue() + ".conf");
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
 
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        return WorldFileOperations.deleteDirectory(directory)
+                .thenCompose(ignored -> WorldFileOperations.runAsync(() -> {
+                    Files.deleteIfExists(configFile);
+                    Files.deleteIfExists(dimensionTemplate);
+                }))
+                .thenApply(ignored -> true);
     }
 
     @Override
@@ -704,6 +732,10 @@ public void unloadWorld0(final ServerWorld world) throws IOException {
             throw new IOException(String.format("World '%s' was told to unload but players remain.", registryKey.location()));
         }
 
+        if (((ServerWorldBridge) world).bridge$isSavingPaused()) {
+            throw new IOException(String.format("World '%s' was told to unload but it is being copied.", registryKey.location()));
+        }
+
         SpongeCommon.getLogger().info("Unloading World '{}' ({})", registryKey.location(), SpongeCommon.getServer().registryAccess().dimensionTypes().getKey(world.dimensionType()));
 
         final BlockPos spawnPoint = world.getSharedSpawnPos();
@@ -721,10 +753,51 @@ public void unloadWorld0(final ServerWorld world) throws IOException {
         }
 
         this.worlds.remove(registryKey);
+        this.idleSince.removeInt(registryKey);
+        this.unloads.increment();
 
         SpongeCommon.postEvent(SpongeEventFactory.createUnloadWorldEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), (org.spongepowered.api.world.server.ServerWorld) world));
     }
 
+    @Override
+    public void tick() {
+        final int tickCount = this.server.getTickCount();
+        if (tickCount % VanillaWorldManager.IDLE_CHECK_INTERVAL != 0) {
+            return;
+        }
+
+        final List<ServerWorld> idleWorlds = new ArrayList<>();
+        for (final ServerWorld world : this.worlds.values()) {
+            final RegistryKey<World> registryKey = world.dimension();
+            if (World.OVERWORLD.equals(registryKey) || this.loadingWorlds.containsKey(registryKey)) {
+                continue;
+            }
+
+            final int idleUnloadDelay = SpongeGameConfigs.getSnapshot(world).idleUnloadDelay;
+            if (idleUnloadDelay <= 0 || !world.players().isEmpty() || !world.getForcedChunks().isEmpty()
+                    || ((ServerWorldBridge) world).bridge$isSavingPaused()) {
+                this.idleSince.removeInt(registryKey);
+                continue;
+            }
+
+            if (!this.idleSince.containsKey(registryKey)) {
+                this.idleSince.put(registryKey, tickCount);
+            } else if (tickCount - this.idleSince.getInt(registryKey) >= idleUnloadDelay * 20) {
+                idleWorlds.add(world);
+            }
+        }
+
+        for (final ServerWorld world : idleWorlds) {
+            try {
+                this.unloadWorld0(world);
+                this.idleUnloads.increment();
+            } catch (final IOException e) {
+                this.idleSince.removeInt(world.dimension());
+                SpongeCommon.getLogger().error("Failed to unload idle world '{}'", world.dimension().location(), e);
+            }
+        }
+    }
+
     @Override
     public void loadLevel() {
         final ServerWorldInfo defaultLevelData = (ServerWorldInfo) this.server.getWorldData();
@@ -739,7 +812,10 @@ public void loadLevel() {
                     + "Multi-World support has been disabled and no worlds besides the default world will be loaded.");
         }
 
+        final Map<RegistryKey<World>, Long> setupTimes = new LinkedHashMap<>();
+        final Map<RegistryKey<World>, Long> spawnTimes = new HashMap<>();
         for (final RegistryEntry<Dimension> entry : ((Registry<Dimension>) (Object) templates).streamEntries().collect(Collectors.toList())) {
+            final long setupStart = System.nanoTime();
             final ResourceKey worldKey = entry.key();
             final Dimension template = entry.value();
             final DimensionBridge templateBridge = (DimensionBridge) (Object) template;
@@ -844,18 +920,33 @@ public void loadLevel() {
             this.worlds.put(registryKey, world);
 
             this.prepareWorld(world, isDebugGeneration);
+            setupTimes.put(registryKey, System.nanoTime() - setupStart);
         }
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
-        for (Map.Entry<RegistryKey<World>, ServerWorld> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
+        if (SpongeConfigs.getCommon().get().world.parallelWorldLoading) {
+            this.loadSpawnChunksConcurrently(new ArrayList<>(this.worlds.values()), spawnTimes);
+        } else {
+            for (Map.Entry<RegistryKey<World>, ServerWorld> entry : this.worlds.entrySet()) {
+                final long spawnStart = System.nanoTime();
+                try {
+                    this.postWorldLoad(entry.getValue(), true).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+                spawnTimes.put(entry.getKey(), System.nanoTime() - spawnStart);
             }
         }
 
+        for (final Map.Entry<RegistryKey<World>, Long> entry : setupTimes.entrySet()) {
+            final long setupTime = entry.getValue();
+            final long spawnTime = spawnTimes.getOrDefault(entry.getKey(), 0L);
+            this.recordLoadTime(setupTime + spawnTime);
+            SpongeCommon.getLogger().info("Loaded World '{}' in {} ms ({} ms setup, {} ms preparing start region)", entry.getKey().location(),
+                    TimeUnit.NANOSECONDS.toMillis(setupTime + spawnTime), TimeUnit.NANOSECONDS.toMillis(setupTime), TimeUnit.NANOSECONDS.toMillis(spawnTime));
+        }
+
         ((SpongeUserManager) Sponge.getServer().getUserManager()).init();
         ((SpongeServer) SpongeCommon.getServer()).getPlayerDataManager().load();
     }
@@ -924,6 +1015,60 @@ private CompletableFuture<ServerWorld> postWorldLoad(final ServerWorld world, fi
         return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
     }
 
+    /**
+     * Prepares the start regions of the given worlds at the same time, so that
+     * chunk generation of all worlds overlaps on the world generation executor
+     * while the main thread only processes the resulting tasks.
+     *
+     * <p>Worlds other than the default world that don't keep their spawn
+     * loaded are skipped, their start region would be released right after
+     * being generated.</p>
+     */
+    private void loadSpawnChunksConcurrently(final Collection<ServerWorld> worlds, final Map<RegistryKey<World>, Long> spawnTimes) {
+        final Map<ServerWorld, Long> preparing = new LinkedHashMap<>();
+        for (final ServerWorld world : worlds) {
+            SpongeCommon.postEvent(SpongeEventFactory.createLoadWorldEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), (org.spongepowered.api.world.server.ServerWorld) world));
+
+            final ServerWorldInfoBridge levelBridge = (ServerWorldInfoBridge) world.getLevelData();
+            final boolean isDefaultWorld = World.OVERWORLD.equals(world.dimension());
+            final ChunkPos chunkPos = new ChunkPos(world.getSharedSpawnPos());
+            if (isDefaultWorld || (levelBridge.bridge$generateSpawnOnLoad() && levelBridge.bridge$keepSpawnLoaded())) {
+                MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
+                        SpongeCommon.getServer().registryAccess().dimensionTypes().getKey(world.dimensionType()));
+                ((ServerWorldBridge) world).bridge$getChunkStatusListener().updateSpawnPos(chunkPos);
+                final ServerChunkProvider serverChunkProvider = world.getChunkSource();
+                serverChunkProvider.getLightEngine().setTaskPerBatch(500);
+                serverChunkProvider.addRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+                preparing.put(world, System.nanoTime());
+            } else if (levelBridge.bridge$keepSpawnLoaded()) {
+                world.getChunkSource().addRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+            }
+        }
+
+        ((MinecraftServerAccessor_Vanilla) this.server).accessor$setNextTickTime(Util.getMillis());
+        while (!preparing.isEmpty()) {
+            ((MinecraftServerAccessor_Vanilla) this.server).accessor$setNextTickTime(Util.getMillis() + 10L);
+            ((MinecraftServerAccessor_Vanilla) this.server).accessor$waitUntilNextTick();
+
+            final Iterator<Map.Entry<ServerWorld, Long>> iterator = preparing.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<ServerWorld, Long> entry = iterator.next();
+                final ServerWorld world = entry.getKey();
+                final ServerChunkProvider serverChunkProvider = world.getChunkSource();
+                if (serverChunkProvider.getTickingGenerated() < 441) {
+                    continue;
+                }
+                iterator.remove();
+
+                this.updateForcedChunks(world, serverChunkProvider);
+                ((ServerWorldBridge) world).bridge$getChunkStatusListener().stop();
+                serverChunkProvider.getLightEngine().setTaskPerBatch(5);
+                this.removeSpawnChunkTicket(world, new ChunkPos(world.getSharedSpawnPos()), serverChunkProvider);
+                spawnTimes.put(world.dimension(), System.nanoTime() - entry.getValue());
+            }
+        }
+    }
+
     private CompletableFuture<ServerWorld> loadSpawnChunksAsync(final ServerWorld world) {
 
         final BlockPos spawnPoint = world.getSharedSpawnPos();